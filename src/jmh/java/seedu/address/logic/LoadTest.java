@@ -0,0 +1,533 @@
+package seedu.address.logic;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import com.sun.management.ThreadMXBean;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.BenchmarkData;
+import seedu.address.model.util.PersonGenerator;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindStorage;
+
+/**
+ * Measures the sustained throughput and latency of the whole command pipeline, where the JMH benchmarks measure its
+ * parts on their own. A mix of commands is run through a {@code LogicManager} on a generated address book, which is
+ * saved to a temporary folder after every command that changes it, with the storage built as {@code MainApp} builds
+ * it: JSON and binary data files are written in the background by a {@code WriteBehindStorage}, and journaled ones
+ * before the command returns. The run ends once the last background write is done.
+ *
+ * Each command is parsed, executed and saved as {@link LogicManager#execute(String)} does, and the latencies of the
+ * three phases are reported separately, together with the garbage collections, heap usage and allocations of the run.
+ * Unlike in the app, the commands are run on the calling thread rather than handed to a {@code CommandPipeline}, so
+ * the latencies leave out the hand-off between the UI and command threads.
+ * Options are given as {@code --name=value}, as described by {@link #USAGE}.
+ */
+public class LoadTest {
+
+    public static final String USAGE = "Options: [--persons=COUNT] [--commands=COUNT] [--warmup=COUNT] [--seed=SEED] "
+            + "[--mix=COMMAND_WORD:WEIGHT[,COMMAND_WORD:WEIGHT]...] [--storage=json|journaled|binary]\n"
+            + "Example: --persons=100000 --commands=20000 --mix=add:20,edit:20,delete:10,find:30,list:20";
+
+    private static final List<String> MIX_COMMAND_WORDS = List.of(AddCommand.COMMAND_WORD, EditCommand.COMMAND_WORD,
+            DeleteCommand.COMMAND_WORD, FindCommand.COMMAND_WORD, ListCommand.COMMAND_WORD);
+    private static final List<String> STORAGE_FORMATS = List.of("json", "journaled", "binary");
+
+    private static final String[] PHASES = {"parse", "execute", "persist", "total"};
+    private static final String PHASE_HEADER = String.format("%-10s %10s %10s %10s %10s",
+            "Phase", "p50 (us)", "p99 (us)", "p999 (us)", "Max (us)");
+    private static final String PHASE_ROW = "%-10s %10.1f %10.1f %10.1f %10.1f";
+    private static final String COMMAND_HEADER = String.format("%-10s %9s %9s %10s %10s %10s",
+            "Command", "Count", "Failed", "p50 (us)", "p99 (us)", "p999 (us)");
+    private static final String COMMAND_ROW = "%-10s %9d %9d %10.1f %10.1f %10.1f";
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    private int personCount = 100_000;
+    private int commandCount = 10_000;
+    private int warmupCount = 1_000;
+    private long seed = PersonGenerator.DEFAULT_SEED;
+    private Map<String, Integer> mix = parseMix("add:20,edit:20,delete:10,find:30,list:20");
+    private String storageFormat = "json";
+
+    /**
+     * Runs the load test with the options in {@code args}, and prints its results to the standard output.
+     */
+    public static void main(String[] args) throws IOException, CommandException {
+        LoadTest loadTest = new LoadTest();
+        try {
+            for (String arg : args) {
+                loadTest.setOption(arg);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage() + "\n" + USAGE);
+            System.exit(1);
+        }
+        loadTest.run();
+    }
+
+    /**
+     * Sets the option given by {@code arg}, in the form {@code --name=value}.
+     *
+     * @throws IllegalArgumentException if {@code arg} is not a valid option.
+     */
+    private void setOption(String arg) {
+        String[] nameAndValue = arg.split("=", 2);
+        if (nameAndValue.length != 2) {
+            throw new IllegalArgumentException("Invalid option: " + arg);
+        }
+        String value = nameAndValue[1];
+        switch (nameAndValue[0]) {
+        case "--persons":
+            personCount = parseCount(value);
+            break;
+        case "--commands":
+            commandCount = parseCount(value);
+            break;
+        case "--warmup":
+            warmupCount = parseCount(value);
+            break;
+        case "--seed":
+            seed = Long.parseLong(value);
+            break;
+        case "--mix":
+            mix = parseMix(value);
+            break;
+        case "--storage":
+            if (!STORAGE_FORMATS.contains(value)) {
+                throw new IllegalArgumentException("Unknown storage format: " + value);
+            }
+            storageFormat = value;
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown option: " + arg);
+        }
+    }
+
+    private static int parseCount(String value) {
+        int count = Integer.parseInt(value);
+        if (count < 0) {
+            throw new IllegalArgumentException("Counts cannot be negative: " + value);
+        }
+        return count;
+    }
+
+    /**
+     * Parses {@code value} into the weight of each command word of the mix, in the order given.
+     */
+    private static Map<String, Integer> parseMix(String value) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] commandWordAndWeight = entry.split(":", 2);
+            if (commandWordAndWeight.length != 2 || !MIX_COMMAND_WORDS.contains(commandWordAndWeight[0])) {
+                throw new IllegalArgumentException("Invalid mix entry: " + entry + ", the command words of the mix "
+                        + "can only be " + MIX_COMMAND_WORDS);
+            }
+            int weight = parseCount(commandWordAndWeight[1]);
+            if (weight > 0) {
+                weights.put(commandWordAndWeight[0], weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The mix must have a command word of positive weight");
+        }
+        return weights;
+    }
+
+    /**
+     * Runs the load test in a temporary folder, which is deleted afterwards.
+     *
+     * @throws CommandException if the address book could not be saved.
+     * @throws IOException if the temporary folder could not be created or deleted, or a background write failed.
+     */
+    public void run() throws IOException, CommandException {
+        Path directory = Files.createTempDirectory("addressbook-loadtest");
+        try {
+            run(directory);
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    private void run(Path directory) throws IOException, CommandException {
+        System.out.println("Generating " + personCount + " persons");
+        PersonGenerator personGenerator = new PersonGenerator(seed);
+        AddressBook addressBook = new AddressBook();
+        personGenerator.addPersons(addressBook, 0, personCount);
+
+        Storage storage = createStorage(directory);
+        CommandMetrics commandMetrics = new CommandMetrics();
+        TimedAddressBookParser parser = new TimedAddressBookParser(commandMetrics);
+        Logic logic = new LogicManager(new ModelManager(addressBook, new UserPrefs()), storage, parser, commandMetrics);
+        // as when the app has started, the data file is there before any command is run
+        logic.saveAddressBook();
+        storage.flush();
+
+        CommandGenerator commandGenerator = new CommandGenerator(logic, personGenerator, personCount, mix, seed);
+        System.out.println("Warming up with " + warmupCount + " commands");
+        Results warmupResults = new Results();
+        for (int i = 0; i < warmupCount; i++) {
+            runCommand(logic, parser, commandGenerator.next(), warmupResults);
+        }
+
+        System.out.println("Running " + commandCount + " commands with " + storageFormat + " storage");
+        Results results = new Results();
+        MemorySnapshot memoryBefore = MemorySnapshot.take();
+        long startTime = System.nanoTime();
+        for (int i = 0; i < commandCount; i++) {
+            runCommand(logic, parser, commandGenerator.next(), results);
+        }
+        // the commands are only done once their changes are on disk
+        storage.flush();
+        long elapsedNanos = System.nanoTime() - startTime;
+        MemorySnapshot memoryAfter = MemorySnapshot.take();
+
+        printResults(results, elapsedNanos, logic.getAddressBook().getPersonList().size());
+        memoryAfter.printDifference(memoryBefore, commandCount);
+    }
+
+    /**
+     * Returns the storage of the address book in {@code directory}, built as {@code MainApp} builds it.
+     */
+    private Storage createStorage(Path directory) {
+        AddressBookStorage addressBookStorage = createAddressBookStorage(directory);
+        Storage storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(directory.resolve("preferences.json")));
+        // a journaled storage records the changes of the address book it saved, so it is not written in the background
+        return addressBookStorage instanceof JournaledAddressBookStorage ? storage : new WriteBehindStorage(storage);
+    }
+
+    private AddressBookStorage createAddressBookStorage(Path directory) {
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(
+                directory.resolve("addressbook.json"));
+        switch (storageFormat) {
+        case "journaled":
+            return new JournaledAddressBookStorage(jsonAddressBookStorage);
+        case "binary":
+            return new BinaryAddressBookStorage(directory.resolve("addressbook.bin"));
+        default:
+            return jsonAddressBookStorage;
+        }
+    }
+
+    /**
+     * Runs {@code commandText} as {@link LogicManager#execute(String)} does, saving the address book only if the
+     * command succeeds, and records the time taken by each phase in {@code results}.
+     */
+    private static void runCommand(Logic logic, TimedAddressBookParser parser, String commandText, Results results)
+            throws CommandException {
+        long startTime = System.nanoTime();
+        boolean isSuccessful = true;
+        try {
+            logic.executeWithoutSaving(commandText);
+        } catch (CommandException | ParseException e) {
+            isSuccessful = false;
+        }
+        long executedTime = System.nanoTime();
+        if (isSuccessful) {
+            logic.saveAddressBook();
+        }
+        long savedTime = System.nanoTime();
+
+        long parseNanos = parser.getLastParseNanos();
+        results.record(commandText.split(" ", 2)[0], isSuccessful, parseNanos, executedTime - startTime - parseNanos,
+                savedTime - executedTime);
+    }
+
+    private void printResults(Results results, long elapsedNanos, int finalPersonCount) {
+        System.out.println(String.format("Ran %1$d commands (%2$d failed) in %3$.1f s: %4$.0f commands/s, "
+                + "leaving %5$d persons", commandCount, results.getFailedCount(), elapsedNanos / 1e9,
+                commandCount / (elapsedNanos / 1e9), finalPersonCount));
+
+        System.out.println(PHASE_HEADER);
+        for (String phase : PHASES) {
+            Latencies latencies = results.getPhaseLatencies(phase);
+            System.out.println(String.format(PHASE_ROW, phase, latencies.getPercentile(0.5) / 1e3,
+                    latencies.getPercentile(0.99) / 1e3, latencies.getPercentile(0.999) / 1e3,
+                    latencies.getPercentile(1) / 1e3));
+        }
+
+        System.out.println(COMMAND_HEADER);
+        results.getTotalLatenciesByCommandWord().forEach((commandWord, latencies) ->
+                System.out.println(String.format(COMMAND_ROW, commandWord, latencies.getCount(),
+                        results.getFailedCount(commandWord), latencies.getPercentile(0.5) / 1e3,
+                        latencies.getPercentile(0.99) / 1e3, latencies.getPercentile(0.999) / 1e3)));
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toArray(Path[]::new)) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * An {@code AddressBookParser} that records how long the last command took to parse.
+     */
+    private static class TimedAddressBookParser extends AddressBookParser {
+        private long lastParseNanos;
+
+        TimedAddressBookParser(CommandMetrics commandMetrics) {
+            super(commandMetrics);
+        }
+
+        @Override
+        public Command parseCommand(String userInput) throws ParseException {
+            long startTime = System.nanoTime();
+            try {
+                return super.parseCommand(userInput);
+            } finally {
+                lastParseNanos = System.nanoTime() - startTime;
+            }
+        }
+
+        long getLastParseNanos() {
+            return lastParseNanos;
+        }
+    }
+
+    /**
+     * Generates the commands of the mix, picking each command word at random by its weight. The arguments of each
+     * command are made to suit the current state of the address book, e.g. indexes within the displayed list, so
+     * that commands only fail as often as they would for a real user.
+     */
+    private static class CommandGenerator {
+        private final Logic logic;
+        private final PersonGenerator personGenerator;
+        private final SplittableRandom random;
+        private final String[] commandWords;
+        private final int[] cumulativeWeights;
+        /** Position of the next generated person to add, after the persons in the address book at the start. */
+        private long nextPosition;
+
+        CommandGenerator(Logic logic, PersonGenerator personGenerator, long nextPosition, Map<String, Integer> mix,
+                long seed) {
+            this.logic = logic;
+            this.personGenerator = personGenerator;
+            this.nextPosition = nextPosition;
+            random = new SplittableRandom(seed);
+            commandWords = mix.keySet().toArray(new String[0]);
+            cumulativeWeights = new int[commandWords.length];
+            int totalWeight = 0;
+            for (int i = 0; i < commandWords.length; i++) {
+                totalWeight += mix.get(commandWords[i]);
+                cumulativeWeights[i] = totalWeight;
+            }
+        }
+
+        String next() {
+            String commandWord = pickCommandWord();
+            switch (commandWord) {
+            case AddCommand.COMMAND_WORD:
+                return commandWord + BenchmarkData.toAddArguments(personGenerator.generatePerson(nextPosition++));
+            case EditCommand.COMMAND_WORD:
+                return commandWord + " " + pickDisplayedIndex() + " " + PREFIX_PHONE
+                        + (80_000_000 + random.nextInt(20_000_000));
+            case DeleteCommand.COMMAND_WORD:
+                return commandWord + " " + pickDisplayedIndex();
+            case FindCommand.COMMAND_WORD:
+                // names to find are as common as they are in the address book, as the persons come from the same
+                // generator
+                String name = personGenerator.generatePerson(random.nextLong(nextPosition + 1)).getName().fullName;
+                return commandWord + " " + name.split(" ")[0];
+            default:
+                return commandWord;
+            }
+        }
+
+        private String pickCommandWord() {
+            int point = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            int i = 0;
+            while (cumulativeWeights[i] <= point) {
+                i++;
+            }
+            return commandWords[i];
+        }
+
+        /**
+         * Returns a one-based index in the displayed person list, or 1 if the list is empty.
+         */
+        private int pickDisplayedIndex() {
+            return 1 + random.nextInt(Math.max(logic.getFilteredPersonList().size(), 1));
+        }
+    }
+
+    /**
+     * The latencies of the commands run, by phase and by command word.
+     */
+    private static class Results {
+        private final Map<String, Latencies> phaseLatencies = new LinkedHashMap<>();
+        private final Map<String, Latencies> totalLatenciesByCommandWord = new LinkedHashMap<>();
+        private final Map<String, Integer> failedCountByCommandWord = new LinkedHashMap<>();
+
+        Results() {
+            for (String phase : PHASES) {
+                phaseLatencies.put(phase, new Latencies());
+            }
+        }
+
+        void record(String commandWord, boolean isSuccessful, long parseNanos, long executeNanos, long persistNanos) {
+            long totalNanos = parseNanos + executeNanos + persistNanos;
+            phaseLatencies.get("parse").record(parseNanos);
+            phaseLatencies.get("execute").record(executeNanos);
+            phaseLatencies.get("persist").record(persistNanos);
+            phaseLatencies.get("total").record(totalNanos);
+            totalLatenciesByCommandWord.computeIfAbsent(commandWord, unused -> new Latencies()).record(totalNanos);
+            if (!isSuccessful) {
+                failedCountByCommandWord.merge(commandWord, 1, Integer::sum);
+            }
+        }
+
+        Latencies getPhaseLatencies(String phase) {
+            return phaseLatencies.get(phase);
+        }
+
+        Map<String, Latencies> getTotalLatenciesByCommandWord() {
+            return totalLatenciesByCommandWord;
+        }
+
+        int getFailedCount(String commandWord) {
+            return failedCountByCommandWord.getOrDefault(commandWord, 0);
+        }
+
+        int getFailedCount() {
+            return failedCountByCommandWord.values().stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+
+    /**
+     * Every latency recorded, in nanoseconds, from which percentiles are worked out exactly.
+     */
+    private static class Latencies {
+        private long[] nanos = new long[1024];
+        private int count;
+        private boolean isSorted = true;
+
+        void record(long elapsedNanos) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = elapsedNanos;
+            isSorted = false;
+        }
+
+        int getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the smallest latency that at least {@code fraction} of the latencies are no greater than, or 0 if
+         * there are no latencies.
+         */
+        long getPercentile(double fraction) {
+            if (count == 0) {
+                return 0;
+            }
+            if (!isSorted) {
+                Arrays.sort(nanos, 0, count);
+                isSorted = true;
+            }
+            int rank = (int) Math.ceil(fraction * count);
+            return nanos[Math.max(rank, 1) - 1];
+        }
+    }
+
+    /**
+     * The garbage collections, heap usage and allocations of the JVM up to a point in time.
+     */
+    private static class MemorySnapshot {
+        private final long collectionCount;
+        private final long collectionMillis;
+        private final long allocatedBytes;
+        /** Upper bound of the peak heap usage since the previous snapshot. */
+        private final long peakBytes;
+
+        private MemorySnapshot(long collectionCount, long collectionMillis, long allocatedBytes, long peakBytes) {
+            this.collectionCount = collectionCount;
+            this.collectionMillis = collectionMillis;
+            this.allocatedBytes = allocatedBytes;
+            this.peakBytes = peakBytes;
+        }
+
+        /**
+         * Takes a snapshot, and resets the peak heap usage so that the next snapshot has the peak since this one.
+         */
+        static MemorySnapshot take() {
+            long collectionCount = 0;
+            long collectionMillis = 0;
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                collectionCount += Math.max(collector.getCollectionCount(), 0);
+                collectionMillis += Math.max(collector.getCollectionTime(), 0);
+            }
+
+            // the pools peak at different times, so the sum of their peaks is an upper bound of the peak heap usage
+            long peakBytes = 0;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    peakBytes += pool.getPeakUsage().getUsed();
+                    pool.resetPeakUsage();
+                }
+            }
+
+            // the commands run on this thread, but the data file may be written on the background writer thread
+            ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long allocatedBytes = 0;
+            for (long threadAllocatedBytes : threadBean.getThreadAllocatedBytes(threadBean.getAllThreadIds())) {
+                // threads that have ended since their ids were taken report -1
+                allocatedBytes += Math.max(threadAllocatedBytes, 0);
+            }
+            return new MemorySnapshot(collectionCount, collectionMillis, allocatedBytes, peakBytes);
+        }
+
+        /**
+         * Prints the garbage collections, allocations and peak heap usage since {@code earlier}, which the
+         * {@code commandCount} commands run in between are responsible for, and the heap usage now.
+         */
+        void printDifference(MemorySnapshot earlier, int commandCount) {
+            long allocatedBytesBetween = allocatedBytes - earlier.allocatedBytes;
+            System.out.println(String.format("GC: %1$d collections taking %2$d ms",
+                    collectionCount - earlier.collectionCount, collectionMillis - earlier.collectionMillis));
+            System.out.println(String.format("Allocated: %1$d MB, %2$.1f KB per command",
+                    allocatedBytesBetween / BYTES_PER_MEGABYTE,
+                    allocatedBytesBetween / 1024.0 / Math.max(commandCount, 1)));
+
+            long usedBytes = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+            long maxBytes = Runtime.getRuntime().maxMemory();
+            System.out.println(String.format("Heap: %1$d MB used at the end, at most %2$d MB at peak, of %3$d MB",
+                    usedBytes / BYTES_PER_MEGABYTE, peakBytes / BYTES_PER_MEGABYTE, maxBytes / BYTES_PER_MEGABYTE));
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+package seedu.address.logic.parser;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.BenchmarkData;
+
+/**
+ * Measures parsing a script of {@code personCount} commands, a mix of add, edit, delete and find commands about
+ * generated persons.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AddressBookParserBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int personCount;
+
+    private String[] commands;
+    private AddressBookParser parser;
+
+    /**
+     * Generates one command for each of {@code personCount} persons.
+     */
+    @Setup
+    public void setUp() {
+        List<Person> persons = BenchmarkData.generatePersons(personCount, BenchmarkData.SEED);
+        commands = new String[personCount];
+        for (int i = 0; i < personCount; i++) {
+            Person person = persons.get(i);
+            int index = i + 1;
+            switch (i % 4) {
+            case 0:
+                commands[i] = AddCommand.COMMAND_WORD + BenchmarkData.toAddArguments(person);
+                break;
+            case 1:
+                commands[i] = EditCommand.COMMAND_WORD + " " + index + " p/" + person.getPhone().value
+                        + " e/" + person.getEmail().value;
+                break;
+            case 2:
+                commands[i] = DeleteCommand.COMMAND_WORD + " " + index;
+                break;
+            default:
+                commands[i] = FindCommand.COMMAND_WORD + " " + person.getName().fullName;
+                break;
+            }
+        }
+        parser = new AddressBookParser();
+    }
+
+    /**
+     * Parses every command.
+     */
+    @Benchmark
+    public void parseCommands(Blackhole blackhole) throws ParseException {
+        for (String command : commands) {
+            blackhole.consume(parser.parseCommand(command));
+        }
+    }
+
+}
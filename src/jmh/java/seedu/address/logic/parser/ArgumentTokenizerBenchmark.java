@@ -0,0 +1,64 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.util.BenchmarkData;
+
+/**
+ * Measures tokenizing the arguments of the add commands of {@code personCount} generated persons.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ArgumentTokenizerBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int personCount;
+
+    private String[] arguments;
+
+    /**
+     * Generates the add command arguments of {@code personCount} persons.
+     */
+    @Setup
+    public void setUp() {
+        List<Person> persons = BenchmarkData.generatePersons(personCount, BenchmarkData.SEED);
+        arguments = persons.stream().map(BenchmarkData::toAddArguments).toArray(String[]::new);
+    }
+
+    /**
+     * Tokenizes every argument string with the prefixes of the add command.
+     */
+    @Benchmark
+    public void tokenizeArguments(Blackhole blackhole) {
+        for (String argument : arguments) {
+            blackhole.consume(ArgumentTokenizer.tokenize(argument,
+                    PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG));
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.BenchmarkData;
+
+/**
+ * Measures testing every person of an address book against a {@code NameContainsKeywordsPredicate}, as a find
+ * command that scans the whole address book does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class NameContainsKeywordsPredicateBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int personCount;
+
+    private List<Person> persons;
+    private NameContainsKeywordsPredicate predicate;
+
+    /**
+     * Generates {@code personCount} persons, and a predicate matching a few of their names.
+     */
+    @Setup
+    public void setUp() {
+        persons = BenchmarkData.generatePersons(personCount, BenchmarkData.SEED);
+        predicate = new NameContainsKeywordsPredicate(List.of("charlotte", "Li", "12345"));
+    }
+
+    /**
+     * Tests every person against the predicate, returning the number that match.
+     */
+    @Benchmark
+    public int testAllPersons() {
+        int matchCount = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matchCount++;
+            }
+        }
+        return matchCount;
+    }
+
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.BenchmarkData;
+
+/**
+ * Measures adding persons to a {@code UniquePersonList}, both to fill an empty list and to grow a full one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int personCount;
+
+    private List<Person> persons;
+    private Person extraPerson;
+    private UniquePersonList fullList;
+
+    /**
+     * Generates {@code personCount} persons, and a list that already holds them.
+     */
+    @Setup
+    public void setUp() {
+        persons = BenchmarkData.generatePersons(personCount + 1, BenchmarkData.SEED);
+        extraPerson = persons.remove(personCount);
+        fullList = new UniquePersonList();
+        fullList.setPersons(persons);
+    }
+
+    /**
+     * Adds every person to an empty list, one at a time.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public UniquePersonList addToEmptyList() {
+        UniquePersonList list = new UniquePersonList();
+        for (Person person : persons) {
+            list.add(person);
+        }
+        return list;
+    }
+
+    /**
+     * Adds one more person to the full list, and removes the person again so that the list stays the same size.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void addToFullList() {
+        fullList.add(extraPerson);
+        fullList.remove(extraPerson);
+    }
+
+}
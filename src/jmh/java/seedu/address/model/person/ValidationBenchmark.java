@@ -0,0 +1,107 @@
+package seedu.address.model.person;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares validating the fields of a large address book, as done when it is loaded, by matching each field
+ * against its {@code VALIDATION_REGEX} with {@code String#matches} and by the validators of the fields.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ValidationBenchmark {
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan"};
+    private static final String[] DOMAINS = {"example.com", "u.nus.edu", "mail.example-domain.org"};
+    private static final String[] STREETS = {"Geylang Street 29", "Serangoon Gardens Street", "Aljunied Street 85"};
+    private static final String[] TAGS = {"friends", "colleagues", "neighbours", "family"};
+
+    @Param({"1000000"})
+    private int recordCount;
+
+    private String[] names;
+    private String[] phones;
+    private String[] emails;
+    private String[] addresses;
+    private String[] tags;
+
+    /**
+     * Generates the fields of {@code recordCount} valid records, the same ones for every run.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(0);
+        names = new String[recordCount];
+        phones = new String[recordCount];
+        emails = new String[recordCount];
+        addresses = new String[recordCount];
+        tags = new String[recordCount];
+        for (int i = 0; i < recordCount; i++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            names[i] = firstName + " " + lastName + " " + i;
+            phones[i] = String.valueOf(80000000 + random.nextInt(20000000));
+            emails[i] = firstName.toLowerCase() + "." + lastName.toLowerCase() + i + "@"
+                    + DOMAINS[random.nextInt(DOMAINS.length)];
+            addresses[i] = "Blk " + random.nextInt(1000) + ", " + STREETS[random.nextInt(STREETS.length)]
+                    + ", #" + random.nextInt(100) + "-" + random.nextInt(1000);
+            tags[i] = TAGS[random.nextInt(TAGS.length)];
+        }
+    }
+
+    /**
+     * Validates every record by matching its fields against the validation regexes.
+     */
+    @Benchmark
+    public int validateWithRegexes() {
+        int validCount = 0;
+        for (int i = 0; i < recordCount; i++) {
+            if (names[i].matches(Name.VALIDATION_REGEX)
+                    && phones[i].matches(Phone.VALIDATION_REGEX)
+                    && emails[i].matches(Email.VALIDATION_REGEX)
+                    && addresses[i].matches(Address.VALIDATION_REGEX)
+                    && tags[i].matches(Tag.VALIDATION_REGEX)) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+
+    /**
+     * Validates every record with the validators of its fields.
+     */
+    @Benchmark
+    public int validateWithValidators() {
+        int validCount = 0;
+        for (int i = 0; i < recordCount; i++) {
+            if (Name.isValidName(names[i])
+                    && Phone.isValidPhone(phones[i])
+                    && Email.isValidEmail(emails[i])
+                    && Address.isValidAddress(addresses[i])
+                    && Tag.isValidTagName(tags[i])) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+
+}
@@ -0,0 +1,44 @@
+package seedu.address.model.util;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Provides the data of the benchmarks. The persons are made by {@link PersonGenerator} from a fixed seed, so that
+ * every run of a benchmark, on every commit, measures the same data.
+ */
+public class BenchmarkData {
+
+    public static final long SEED = PersonGenerator.DEFAULT_SEED;
+
+    /**
+     * Returns {@code count} distinct valid persons generated from {@code seed}.
+     */
+    public static List<Person> generatePersons(int count, long seed) {
+        return new PersonGenerator(seed).generatePersons(0, count).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns an address book of {@code count} persons generated from {@link #SEED}.
+     */
+    public static AddressBook generateAddressBook(int count) {
+        return PersonGenerator.generateAddressBook(count);
+    }
+
+    /**
+     * Returns the arguments of an add command that adds {@code person}, as typed after the command word.
+     */
+    public static String toAddArguments(Person person) {
+        StringBuilder arguments = new StringBuilder()
+                .append(" n/").append(person.getName().fullName)
+                .append(" p/").append(person.getPhone().value)
+                .append(" e/").append(person.getEmail().value)
+                .append(" a/").append(person.getAddress().value);
+        person.getTags().forEach(tag -> arguments.append(" t/").append(tag.tagName));
+        return arguments.toString();
+    }
+
+}
@@ -0,0 +1,87 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.BenchmarkData;
+
+/**
+ * Measures saving an address book of {@code personCount} generated persons to a JSON file, and loading it back.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int personCount;
+
+    private Path directory;
+    private AddressBook addressBook;
+    private JsonAddressBookStorage savedStorage;
+    private JsonAddressBookStorage scratchStorage;
+
+    /**
+     * Generates an address book of {@code personCount} persons, and saves it for the loading benchmark.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("addressbook-benchmark");
+        addressBook = BenchmarkData.generateAddressBook(personCount);
+        savedStorage = new JsonAddressBookStorage(directory.resolve("saved.json"));
+        savedStorage.saveAddressBook(addressBook);
+        scratchStorage = new JsonAddressBookStorage(directory.resolve("scratch.json"));
+    }
+
+    /**
+     * Deletes the files saved by the benchmarks.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toArray(Path[]::new)) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Saves the address book, replacing the file saved by the previous run.
+     */
+    @Benchmark
+    public void save() throws IOException {
+        scratchStorage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Loads the saved address book.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook load() throws DataLoadingException {
+        return savedStorage.readAddressBook().get();
+    }
+
+}
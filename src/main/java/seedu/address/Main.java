@@ -35,6 +35,13 @@ public class Main {
         // the user (if looking at the log output) that the said warning appearing in the log
         // can be ignored.
 
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.getScriptPath() != null) {
+            // runs without the UI, so JavaFX is never launched
+            boolean isSuccessful = new MainApp().runScript(appParameters);
+            System.exit(isSuccessful ? 0 : 1);
+        }
+
         logger.warning("The warning about Unsupported JavaFX configuration below (if any) can be ignored.");
         Application.launch(MainApp.class, args);
     }
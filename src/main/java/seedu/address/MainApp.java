@@ -1,6 +1,10 @@
 package seedu.address;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -12,9 +16,13 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandMetrics;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.ScriptRunner;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -23,11 +31,14 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -38,6 +49,8 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 2, 2, true);
 
+    private static final String BINARY_DATA_FILE_EXTENSION = ".bin";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -45,26 +58,154 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected CommandMetrics commandMetrics;
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        initComponents(AppParameters.parse(getParameters()), true);
+        initCommandMetricsLogInterval(config);
+
+        ui = new UiManager(logic);
+    }
+
+    /**
+     * Initializes every component of the app other than the UI.
+     * JSON and binary data files are written in the background if {@code isWriteBehind} is true.
+     */
+    private void initComponents(AppParameters appParameters, boolean isWriteBehind) {
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        initSyncInterval(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        if (isWriteBehind && !(addressBookStorage instanceof JournaledAddressBookStorage)) {
+            // a journaled storage records the changes of the address book it saved, so it must be given the
+            // live address book rather than a copy; appending to the journal is cheap enough to stay synchronous
+            storage = new WriteBehindStorage(storage);
+        }
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        commandMetrics = new CommandMetrics();
+        logic = new LogicManager(model, storage, commandMetrics);
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Runs the command script at the script path of {@code appParameters} without starting the UI, then stops.
+     * The address book is saved once, after the last command of the script.
+     *
+     * @return true if the script was run and saved without any command failing.
+     */
+    public boolean runScript(AppParameters appParameters) {
+        logger.info("=============================[ Running AddressBook script ]=========================");
+        // the script saves once, and must only report success once the data file has been written
+        initComponents(appParameters, false);
+
+        Path scriptPath = appParameters.getScriptPath();
+        boolean isSuccessful;
+        try (BufferedReader script = openScript(scriptPath)) {
+            int failedCount = new ScriptRunner(logic, System.out).run(script);
+            isSuccessful = failedCount == 0;
+        } catch (IOException e) {
+            logger.severe("Failed to read script " + scriptPath + " " + StringUtil.getDetails(e));
+            System.err.println("Could not read script " + scriptPath + ": " + e.getMessage());
+            isSuccessful = false;
+        } catch (CommandException e) {
+            logger.severe("Failed to save data file after script " + StringUtil.getDetails(e));
+            System.err.println(e.getMessage());
+            isSuccessful = false;
+        }
+
+        logger.info("============================ [ Stopping AddressBook ] =============================");
+        if (!saveOnStop()) {
+            System.err.println("Could not save data file " + storage.getAddressBookFilePath());
+            isSuccessful = false;
+        }
+        return isSuccessful;
+    }
+
+    private static BufferedReader openScript(Path scriptPath) throws IOException {
+        if (scriptPath.toString().equals(AppParameters.STANDARD_INPUT_SCRIPT_PATH)) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} for the data file in {@code userPrefs}, in the format configured.
+     * The data file is converted from the other format if it was last saved in that format.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(
+                getBinaryDataFilePath(jsonFilePath));
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(jsonFilePath,
+                config.isDataFilePrettyPrinted());
+
+        Path binaryFilePath = binaryAddressBookStorage.getAddressBookFilePath();
+        if (config.isDataFileBinary()) {
+            if (config.isDataFileJournaled()) {
+                logger.warning("dataFileJournaled is ignored, as only JSON data files can be journaled and"
+                        + " dataFileBinary is also set");
+            }
+            convertDataFileIfNewer(jsonFilePath, binaryFilePath, () -> binaryAddressBookStorage.importFromJson(
+                    jsonFilePath));
+            return binaryAddressBookStorage;
+        }
+
+        convertDataFileIfNewer(binaryFilePath, jsonFilePath, () -> binaryAddressBookStorage.exportToJson(
+                jsonFilePath));
+        if (!config.isDataFileJournaled()) {
+            return jsonAddressBookStorage;
+        }
+        return new JournaledAddressBookStorage(jsonAddressBookStorage);
+    }
+
+    /**
+     * Returns the path of the binary data file kept in place of the JSON data file at {@code jsonFilePath}.
+     */
+    private static Path getBinaryDataFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return jsonFilePath.resolveSibling(baseName + BINARY_DATA_FILE_EXTENSION);
+    }
+
+    /**
+     * Runs {@code conversion} of the data file at {@code sourceFilePath} into the configured format at
+     * {@code targetFilePath}, if the source was saved more recently than the target, such as when the data file was
+     * last saved in the other format. Failures are only logged, as the target is then read as it is.
+     */
+    private void convertDataFileIfNewer(Path sourceFilePath, Path targetFilePath, DataFileConversion conversion) {
+        try {
+            if (!Files.exists(sourceFilePath) || Files.exists(targetFilePath)
+                    && Files.getLastModifiedTime(sourceFilePath).compareTo(
+                            Files.getLastModifiedTime(targetFilePath)) <= 0) {
+                return;
+            }
+            conversion.convert();
+            logger.info("Converted data file " + sourceFilePath + " into " + targetFilePath);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Data file at " + sourceFilePath + " could not be converted into " + targetFilePath
+                    + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Represents a conversion of the data file between the JSON and binary formats.
+     */
+    @FunctionalInterface
+    private interface DataFileConversion {
+        /**
+         * Converts the data file.
+         */
+        void convert() throws DataLoadingException, IOException;
     }
 
     /**
@@ -97,6 +238,27 @@ public class MainApp extends Application {
         LogsCenter.init(config);
     }
 
+    /**
+     * Sets how often saved files are forced to the storage device, falling back to the default for invalid values.
+     */
+    private void initSyncInterval(Config config) {
+        try {
+            FileUtil.setSyncInterval(config.getDataFileSyncInterval());
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid data file sync interval " + config.getDataFileSyncInterval()
+                    + " in config file. Using default sync interval.");
+        }
+    }
+
+    private void initCommandMetricsLogInterval(Config config) {
+        try {
+            commandMetrics.setLogInterval(config.getCommandMetricsLogInterval());
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid command metrics log interval " + config.getCommandMetricsLogInterval()
+                    + " in config file. Command metrics will not be logged.");
+        }
+    }
+
     /**
      * Returns a {@code Config} using the file at {@code configFilePath}. <br>
      * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
@@ -177,10 +339,30 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        if (ui != null) {
+            ui.stop();
+        }
+        saveOnStop();
+    }
+
+    /**
+     * Waits for the data file to be written and saves the user prefs.
+     *
+     * @return false if the data file could not be written.
+     */
+    private boolean saveOnStop() {
+        boolean isSaved = true;
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+            isSaved = false;
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        return isSaved;
     }
 }
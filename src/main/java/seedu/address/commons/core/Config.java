@@ -5,6 +5,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -17,6 +18,11 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean dataFilePrettyPrinted = true;
+    private boolean dataFileJournaled = false;
+    private boolean dataFileBinary = false;
+    private int dataFileSyncInterval = FileUtil.DEFAULT_SYNC_INTERVAL;
+    private int commandMetricsLogInterval = 600;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +40,46 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isDataFilePrettyPrinted() {
+        return dataFilePrettyPrinted;
+    }
+
+    public void setDataFilePrettyPrinted(boolean dataFilePrettyPrinted) {
+        this.dataFilePrettyPrinted = dataFilePrettyPrinted;
+    }
+
+    public boolean isDataFileJournaled() {
+        return dataFileJournaled;
+    }
+
+    public void setDataFileJournaled(boolean dataFileJournaled) {
+        this.dataFileJournaled = dataFileJournaled;
+    }
+
+    public boolean isDataFileBinary() {
+        return dataFileBinary;
+    }
+
+    public void setDataFileBinary(boolean dataFileBinary) {
+        this.dataFileBinary = dataFileBinary;
+    }
+
+    public int getDataFileSyncInterval() {
+        return dataFileSyncInterval;
+    }
+
+    public void setDataFileSyncInterval(int dataFileSyncInterval) {
+        this.dataFileSyncInterval = dataFileSyncInterval;
+    }
+
+    public int getCommandMetricsLogInterval() {
+        return commandMetricsLogInterval;
+    }
+
+    public void setCommandMetricsLogInterval(int commandMetricsLogInterval) {
+        this.commandMetricsLogInterval = commandMetricsLogInterval;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +93,18 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && dataFilePrettyPrinted == otherConfig.dataFilePrettyPrinted
+                && dataFileJournaled == otherConfig.dataFileJournaled
+                && dataFileBinary == otherConfig.dataFileBinary
+                && dataFileSyncInterval == otherConfig.dataFileSyncInterval
+                && commandMetricsLogInterval == otherConfig.commandMetricsLogInterval;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, dataFilePrettyPrinted, dataFileJournaled, dataFileBinary,
+                dataFileSyncInterval, commandMetricsLogInterval);
     }
 
     @Override
@@ -60,6 +112,11 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("dataFilePrettyPrinted", dataFilePrettyPrinted)
+                .add("dataFileJournaled", dataFileJournaled)
+                .add("dataFileBinary", dataFileBinary)
+                .add("dataFileSyncInterval", dataFileSyncInterval)
+                .add("commandMetricsLogInterval", commandMetricsLogInterval)
                 .toString();
     }
 
@@ -1,17 +1,39 @@
 package seedu.address.commons.util;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final int DEFAULT_SYNC_INTERVAL = 1;
+    public static final String MESSAGE_SYNC_INTERVAL_CONSTRAINTS = "Sync interval cannot be negative";
+
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /** Number of times each file has been replaced, keyed by the absolute path of the file. */
+    private static final Map<Path, AtomicLong> replacedFileCounts = new ConcurrentHashMap<>();
+    private static volatile int syncInterval = DEFAULT_SYNC_INTERVAL;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +102,159 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Sets how many replacements of the same file by {@link #replaceFileAtomically(Path, ContentWriter)} make up a
+     * batch whose last replacement is forced to the storage device. Each file is counted separately, so saving one file
+     * does not make the next save of another file any more or less likely to be forced.
+     * Files are always replaced atomically, so a crash of the application never leaves a partially written file.
+     * Forcing every file ({@code 1}, the default) also protects against crashes of the operating system, while
+     * larger intervals trade the durability of the most recent saves for faster saving. {@code 0} never forces files.
+     */
+    public static void setSyncInterval(int syncInterval) {
+        checkArgument(syncInterval >= 0, MESSAGE_SYNC_INTERVAL_CONSTRAINTS);
+        FileUtil.syncInterval = syncInterval;
+    }
+
+    /**
+     * Returns true if {@code file}, which is about to be replaced, should be forced to the storage device.
+     */
+    private static boolean isSyncDue(Path file) {
+        int interval = syncInterval;
+        long count = replacedFileCounts.computeIfAbsent(file.toAbsolutePath().normalize(), unused -> new AtomicLong())
+                .incrementAndGet();
+        return interval != 0 && count % interval == 0;
+    }
+
+    /**
+     * Writes given string to a file, replacing the file atomically.
+     * Will create the file if it does not exist yet.
+     *
+     * @see #replaceFileAtomically(Path, ContentWriter)
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+        writeToFileAtomically(file, content, isSyncDue(file));
+    }
+
+    /**
+     * Writes given string to a file, replacing the file atomically.
+     * Will create the file if it does not exist yet.
+     *
+     * @see #replaceFileAtomically(Path, boolean, ContentWriter)
+     */
+    public static void writeToFileAtomically(Path file, String content, boolean isSynced) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        replaceFileAtomically(file, isSynced, outputStream -> outputStream.write(bytes));
+    }
+
+    /**
+     * Replaces the contents of {@code file} atomically, forcing it to the storage device as often as set by
+     * {@link #setSyncInterval(int)}.
+     *
+     * @see #replaceFileAtomically(Path, boolean, ContentWriter)
+     */
+    public static void replaceFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        replaceFileAtomically(file, isSyncDue(file), contentWriter);
+    }
+
+    /**
+     * Replaces the contents of {@code file} with what {@code contentWriter} writes, such that the file holds either
+     * its old contents or all of its new contents even if the application crashes while writing.
+     * The new contents are written to a temporary file in the same directory, which is then renamed over the file.
+     * The file keeps its permissions, or gets the default permissions of new files if it does not exist yet.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * @param isSynced whether the new contents and the rename are forced to the storage device before returning.
+     *     Without this, a crash of the operating system rather than of the application can still lose the new
+     *     contents, but writing is considerably faster.
+     * @throws IOException if the file cannot be written, in which case it is left unchanged.
+     */
+    public static void replaceFileAtomically(Path file, boolean isSynced, ContentWriter contentWriter)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = createTempFileFor(file, directory);
+
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream outputStream = new BufferedOutputStream(Channels.newOutputStream(channel));
+                contentWriter.writeTo(outputStream);
+                outputStream.flush();
+                if (isSynced) {
+                    channel.force(true);
+                }
+            }
+            moveReplacing(tempFile, file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        if (isSynced) {
+            syncDirectory(directory);
+        }
+    }
+
+    /**
+     * Creates an empty temporary file in {@code directory} that is to be renamed over {@code file}, with the
+     * permissions that {@code file} should keep.
+     */
+    private static Path createTempFileFor(Path file, Path directory) throws IOException {
+        // unlike Files#createTempFile, which only lets the owner read the file, Files#createFile gives the file the
+        // default permissions of new files
+        Path tempFile;
+        while (true) {
+            String tempFileName = file.getFileName().toString()
+                    + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + TEMP_FILE_SUFFIX;
+            try {
+                tempFile = Files.createFile(directory.resolve(tempFileName));
+                break;
+            } catch (FileAlreadyExistsException e) {
+                // another temporary file has the same name, so try another one
+            }
+        }
+
+        if (Files.exists(file)) {
+            try {
+                Files.setPosixFilePermissions(tempFile, Files.getPosixFilePermissions(file));
+            } catch (UnsupportedOperationException e) {
+                // permissions are not POSIX permissions here, such as on Windows, where the file keeps its own
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(tempFile);
+                throw e;
+            }
+        }
+        return tempFile;
+    }
+
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the storage device, so that a rename within it survives a crash.
+     * Not all platforms allow directories to be opened, in which case this does nothing.
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the rename has still taken place, it is only not guaranteed to survive a crash of the operating system
+        }
+    }
+
+    /**
+     * Represents the writing of the contents of a file by {@link #replaceFileAtomically(Path, boolean, ContentWriter)}.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the contents of the file to {@code outputStream}, without closing it.
+         */
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+
 }
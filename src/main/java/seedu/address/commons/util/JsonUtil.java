@@ -3,18 +3,26 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +30,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -40,7 +49,7 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        FileUtil.writeToFileAtomically(jsonFile, toJsonString(objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -77,9 +86,62 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the array stored under {@code arrayFieldName} in the top-level JSON object of the given file one element
+     * at a time, passing each element to {@code elementHandler} as soon as it has been read.
+     * Unlike {@link #readJsonFile(Path, Class)}, neither the file contents nor the whole array are held in memory.
+     * Other fields of the top-level object are skipped. A missing or null array is treated as an empty array.
+     *
+     * @param filePath cannot be null.
+     * @param elementClass each array element has to correspond to the structure in the class given here.
+     * @return false if the file is not found, true otherwise.
+     * @throws DataLoadingException if loading of the JSON file failed.
+     * @throws IllegalValueException if {@code elementHandler} rejected an element.
+     */
+    public static <T> boolean readJsonArrayFile(Path filePath, String arrayFieldName, Class<T> elementClass,
+            JsonElementHandler<? super T> elementHandler) throws DataLoadingException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elementHandler);
+
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream inputStream = Files.newInputStream(filePath);
+                JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object at the top level");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!fieldName.equals(arrayFieldName) || valueToken == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (valueToken != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected \"" + arrayFieldName + "\" to be an array");
+                }
+
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    elementHandler.handle(objectMapper.readValue(parser, elementClass));
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        return true;
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * The file is replaced atomically, so it is never left partially written.
      * @param jsonFile cannot be null
      * @param filePath cannot be null
      * @throws IOException if there was an error during writing to the file
@@ -92,6 +154,48 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Saves {@code elements} to the specified file as the array {@code arrayFieldName} of a top-level JSON object.
+     * Each element is converted by {@code toJsonAdapted} and written out immediately, so unlike
+     * {@link #saveJsonFile(Object, Path)}, no copy of the whole document is built in memory before writing.
+     * {@code elements} is only iterated over once, so it may produce its elements as they are needed.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * The file is replaced atomically, so it is never left partially written.
+     *
+     * @param filePath cannot be null.
+     * @param toJsonAdapted converts each element into an object that can be serialized to JSON.
+     * @param isPrettyPrinted whether the JSON is indented for readability, at the cost of a larger file.
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public static <S> void saveJsonArrayFile(Path filePath, String arrayFieldName, Iterable<S> elements,
+            Function<? super S, ?> toJsonAdapted, boolean isPrettyPrinted) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elements);
+        requireNonNull(toJsonAdapted);
+
+        // flushing after every element would defeat the buffering of the output stream
+        ObjectWriter elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        FileUtil.replaceFileAtomically(filePath, outputStream -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+            if (isPrettyPrinted) {
+                generator.useDefaultPrettyPrinter();
+            }
+
+            generator.writeStartObject();
+            generator.writeFieldName(arrayFieldName);
+            generator.writeStartArray();
+            for (S element : elements) {
+                elementWriter.writeValue(generator, toJsonAdapted.apply(element));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            // flushes the generator's own buffer without closing the stream, which the caller owns
+            generator.flush();
+        });
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +215,31 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line,
+     * without the indentation added by {@link #toJsonString(Object)}.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Represents an action to be performed on each element read by
+     * {@link #readJsonArrayFile(Path, String, Class, JsonElementHandler)}.
+     */
+    @FunctionalInterface
+    public interface JsonElementHandler<T> {
+        /**
+         * Handles an element that has just been read.
+         *
+         * @throws IllegalValueException if the element violates any data constraints.
+         */
+        void handle(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
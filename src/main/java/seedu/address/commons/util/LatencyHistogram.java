@@ -0,0 +1,121 @@
+package seedu.address.commons.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts latencies in buckets of exponentially growing width, in the manner of an HDR histogram, so that percentiles
+ * can be read off with a bounded relative error while using a fixed, small amount of memory however many latencies
+ * are recorded.
+ *
+ * Latencies below {@code 2^SUB_BUCKET_BITS} nanoseconds are counted exactly. Every larger power of two is split into
+ * {@code 2^SUB_BUCKET_BITS} buckets of equal width, so a percentile is reported at most 1/64 (about 1.6%) above the
+ * latency it stands for. Latencies of {@code 2^MAX_MAGNITUDE} nanoseconds (about 18 minutes) or more share the last
+ * bucket.
+ *
+ * Recording takes no locks, so any number of threads can record latencies while others read percentiles. Readers see
+ * each recorded latency either completely or not at all, but may see some of the latencies recorded while they read.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_MAGNITUDE = 40;
+    private static final int BUCKET_COUNT = (MAX_MAGNITUDE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records a latency of {@code elapsedNanos} nanoseconds. Negative latencies, which a clock adjustment could cause,
+     * are recorded as 0.
+     */
+    public void record(long elapsedNanos) {
+        long nanos = Math.max(elapsedNanos, 0);
+        bucketCounts.incrementAndGet(getBucketIndex(nanos));
+        count.increment();
+        totalNanos.add(nanos);
+        if (nanos > maxNanos.get()) {
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the mean of the latencies recorded, in nanoseconds, or 0 if none were recorded.
+     */
+    public double getMeanNanos() {
+        long currentCount = count.sum();
+        return currentCount == 0 ? 0 : (double) totalNanos.sum() / currentCount;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns the latency, in nanoseconds, that at least {@code fraction} of the latencies recorded are no greater
+     * than, or 0 if none were recorded. The latency returned is the top of its bucket, and never more than the
+     * largest latency recorded.
+     *
+     * @param fraction a number between 0 and 1, e.g. 0.99 for the 99th percentile.
+     */
+    public long getPercentileNanos(double fraction) {
+        long[] counts = new long[BUCKET_COUNT];
+        long currentCount = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = bucketCounts.get(i);
+            currentCount += counts[i];
+        }
+        if (currentCount == 0) {
+            return 0;
+        }
+
+        long rank = Math.max((long) Math.ceil(fraction * currentCount), 1);
+        long cumulativeCount = 0;
+        int bucketIndex = 0;
+        while (bucketIndex < BUCKET_COUNT - 1) {
+            cumulativeCount += counts[bucketIndex];
+            if (cumulativeCount >= rank) {
+                break;
+            }
+            bucketIndex++;
+        }
+        long max = maxNanos.get();
+        // the last bucket has no top, as it also counts every latency too large for the other buckets
+        return bucketIndex == BUCKET_COUNT - 1 ? max : Math.min(getBucketTop(bucketIndex), max);
+    }
+
+    private static int getBucketIndex(long nanos) {
+        if (nanos < SUB_BUCKET_COUNT) {
+            return (int) nanos;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(nanos);
+        if (magnitude >= MAX_MAGNITUDE) {
+            return BUCKET_COUNT - 1;
+        }
+        // the bits just below the leading one bit pick the bucket within the power of two
+        int subBucket = (int) (nanos >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the largest latency counted in the bucket at {@code bucketIndex}.
+     */
+    private static long getBucketTop(int bucketIndex) {
+        int block = bucketIndex >> SUB_BUCKET_BITS;
+        if (block == 0) {
+            return bucketIndex;
+        }
+        int subBucket = bucketIndex & (SUB_BUCKET_COUNT - 1);
+        int shift = block - 1;
+        return ((long) (SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+    }
+
+}
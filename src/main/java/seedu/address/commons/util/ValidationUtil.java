@@ -0,0 +1,53 @@
+package seedu.address.commons.util;
+
+/**
+ * Character classes for validating fields by scanning them, rather than by matching them against a regex.
+ * Each method matches exactly the characters of the regex construct it is named after, which, without the
+ * {@code UNICODE_CHARACTER_CLASS} flag, are all ASCII-only.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code c} matches {@code \d}.
+     */
+    public static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} matches {@code \p{Alnum}}, or equivalently {@code [^\W_]}.
+     */
+    public static boolean isAlphanumeric(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns true if {@code c} matches {@code \s}.
+     */
+    public static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} is a line terminator, which is the only kind of character {@code .} does not match.
+     */
+    public static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * Returns true if {@code test} is not empty and only contains alphanumeric characters, as {@code \p{Alnum}+}.
+     */
+    public static boolean isAlphanumeric(String test) {
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,32 @@
+package seedu.address.logic;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for a command run by {@code LogicManager}, from parsing it to saving its changes.
+ */
+@Name("seedu.address.Command")
+@Label("Command")
+@Category({"AddressBook", "Logic"})
+@Description("A command run from parsing it to saving the address book")
+class CommandEvent extends Event {
+
+    @Label("Command Word")
+    String commandWord;
+
+    @Label("Person Count")
+    @Description("Number of persons in the address book after the command")
+    int personCount;
+
+    @Label("Successful")
+    boolean isSuccessful;
+
+    @Label("Saved")
+    @Description("Whether the address book was saved after the command, which is skipped if it is unchanged")
+    boolean isSaved;
+
+}
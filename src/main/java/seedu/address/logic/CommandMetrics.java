@@ -0,0 +1,152 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.LatencyHistogram;
+
+/**
+ * Keeps a {@link LatencyHistogram} of each phase of the commands run, for each command word, so that the time taken
+ * by commands can be looked into without a profiler.
+ *
+ * {@code LogicManager} records commands into the instance it is given, which the {@code stats} command then reads
+ * them from. Like the histograms, recording takes no locks.
+ */
+public class CommandMetrics {
+
+    /** Command word under which commands that could not be parsed are recorded. */
+    public static final String INVALID_COMMAND_WORD = "(invalid)";
+
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been run yet";
+    public static final String MESSAGE_HEADER = String.format("%-12s %-8s %8s %10s %10s %10s %10s %10s",
+            "Command", "Phase", "Count", "Mean (us)", "p50 (us)", "p99 (us)", "p999 (us)", "Max (us)");
+    public static final String MESSAGE_LOG_INTERVAL_CONSTRAINTS = "Log interval cannot be negative";
+
+    private static final String MESSAGE_ROW = "%-12s %-8s %8d %10.1f %10.1f %10.1f %10.1f %10.1f";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandMetrics.class);
+
+    /**
+     * The phases of running a command.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, SAVE;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+    }
+
+    /** Histograms of each phase by command word, in alphabetical order of command word. */
+    private final Map<String, LatencyHistogram[]> histogramsByCommandWord = new ConcurrentSkipListMap<>();
+
+    private ScheduledExecutorService logExecutor;
+    /** Number of latencies recorded when the metrics were last logged. */
+    private long loggedCount;
+
+    /**
+     * Returns the command word of {@code commandText}, i.e. its first word.
+     */
+    public static String getCommandWord(String commandText) {
+        return commandText.trim().split("\\s+", 2)[0];
+    }
+
+    /**
+     * Records that {@code phase} of a command with {@code commandWord} took {@code elapsedNanos} nanoseconds.
+     */
+    public void record(String commandWord, Phase phase, long elapsedNanos) {
+        requireNonNull(commandWord);
+        requireNonNull(phase);
+        LatencyHistogram[] histograms = histogramsByCommandWord.get(commandWord);
+        if (histograms == null) {
+            histograms = histogramsByCommandWord.computeIfAbsent(commandWord, unused -> createHistograms());
+        }
+        histograms[phase.ordinal()].record(elapsedNanos);
+    }
+
+    private static LatencyHistogram[] createHistograms() {
+        LatencyHistogram[] histograms = new LatencyHistogram[Phase.values().length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        return histograms;
+    }
+
+    /**
+     * Returns the histogram of {@code phase} of the commands with {@code commandWord}, which is empty if no such
+     * command has been recorded.
+     */
+    public LatencyHistogram getHistogram(String commandWord, Phase phase) {
+        LatencyHistogram[] histograms = histogramsByCommandWord.get(commandWord);
+        return histograms == null ? new LatencyHistogram() : histograms[phase.ordinal()];
+    }
+
+    /**
+     * Returns a table of the latencies of each phase recorded for each command word, in microseconds.
+     * Phases that were never recorded for a command word, such as the saving of commands that failed or left the
+     * address book unchanged, are left out.
+     */
+    public String format() {
+        if (histogramsByCommandWord.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+
+        StringBuilder table = new StringBuilder(MESSAGE_HEADER);
+        histogramsByCommandWord.forEach((commandWord, histograms) -> {
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = histograms[phase.ordinal()];
+                if (histogram.getCount() == 0) {
+                    continue;
+                }
+                table.append('\n').append(String.format(MESSAGE_ROW, commandWord, phase, histogram.getCount(),
+                        histogram.getMeanNanos() / 1e3, histogram.getPercentileNanos(0.5) / 1e3,
+                        histogram.getPercentileNanos(0.99) / 1e3, histogram.getPercentileNanos(0.999) / 1e3,
+                        histogram.getMaxNanos() / 1e3));
+            }
+        });
+        return table.toString();
+    }
+
+    /**
+     * Logs the metrics every {@code intervalSeconds} seconds on a background thread, skipping the logs in which no
+     * new commands would appear. An interval of 0 stops the logging.
+     */
+    public synchronized void setLogInterval(int intervalSeconds) {
+        checkArgument(intervalSeconds >= 0, MESSAGE_LOG_INTERVAL_CONSTRAINTS);
+        if (logExecutor != null) {
+            logExecutor.shutdownNow();
+            logExecutor = null;
+        }
+        if (intervalSeconds == 0) {
+            return;
+        }
+
+        logExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-metrics-logger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        logExecutor.scheduleAtFixedRate(this::logIfChanged, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    private void logIfChanged() {
+        long count = histogramsByCommandWord.values().stream()
+                .mapToLong(histograms -> histograms[Phase.PARSE.ordinal()].getCount())
+                .sum();
+        if (count == loggedCount) {
+            return;
+        }
+        loggedCount = count;
+        logger.info("Command latencies since startup:\n" + format());
+    }
+
+}
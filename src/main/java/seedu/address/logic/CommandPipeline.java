@@ -0,0 +1,214 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+
+/**
+ * Executes commands on a dedicated thread, one at a time and in the order they are submitted, so that slow commands
+ * do not hold up the UI thread.
+ *
+ * As the model is only changed on the command thread, the UI displays a copy of the filtered person list instead,
+ * which is kept up to date on the UI thread. Changes to the filtered person list are queued as they are made, and
+ * everything queued by the time the UI thread gets to it is applied in one go. The result of each command is
+ * delivered on the UI thread after the changes the command made, so results arrive in the order the commands were
+ * submitted and always find the copy reflecting their command.
+ *
+ * Anything else that reads or changes the model or logic while commands may be executing, such as the GUI settings,
+ * must be run on the command thread too, with {@link #submitTask(Runnable)} or {@link #submitQuery(Supplier)}.
+ */
+public class CommandPipeline {
+
+    /** How long {@link #shutdown()} waits for the commands already submitted to be executed. */
+    public static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandPipeline.class);
+
+    private final Logic logic;
+    private final Executor uiThreadExecutor;
+    private final ExecutorService commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-executor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ObservableList<Person> personList;
+    private final ObservableList<Person> personListUnmodifiable;
+
+    /** Updates to be applied on the UI thread, in order. Guarded by {@code this}. */
+    private final Queue<Runnable> pendingUpdates = new ArrayDeque<>();
+    /** Whether the UI thread has been asked to apply the pending updates. Guarded by {@code this}. */
+    private boolean isUpdateScheduled;
+
+    /**
+     * Creates a {@code CommandPipeline} that executes commands with {@code logic}, and runs updates to the displayed
+     * person list and command results with {@code uiThreadExecutor}.
+     * It should be created on the UI thread, before the model is changed by anything other than the pipeline.
+     */
+    public CommandPipeline(Logic logic, Executor uiThreadExecutor) {
+        requireNonNull(logic);
+        requireNonNull(uiThreadExecutor);
+        this.logic = logic;
+        this.uiThreadExecutor = uiThreadExecutor;
+        ObservableList<Person> filteredPersonList = logic.getFilteredPersonList();
+        personList = FXCollections.observableArrayList(filteredPersonList);
+        personListUnmodifiable = FXCollections.unmodifiableObservableList(personList);
+        filteredPersonList.addListener(this::recordChange);
+    }
+
+    /**
+     * Returns an unmodifiable copy of the filtered person list, which is only changed on the UI thread.
+     */
+    public ObservableList<Person> getPersonList() {
+        return personListUnmodifiable;
+    }
+
+    /**
+     * Queues {@code commandText} to be executed after all commands submitted before it.
+     * The returned future is completed on the UI thread with the result of the command, or exceptionally with the
+     * {@code CommandException} or {@code ParseException} it threw.
+     *
+     * @see Logic#execute(String)
+     */
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+        CompletableFuture<CommandResult> futureResult = new CompletableFuture<>();
+        commandExecutor.execute(() -> execute(commandText, futureResult));
+        return futureResult;
+    }
+
+    /**
+     * Queues {@code task} to be run on the command thread after all commands and tasks submitted before it.
+     * The returned future is completed on the command thread once the task has run.
+     */
+    public CompletableFuture<Void> submitTask(Runnable task) {
+        requireNonNull(task);
+        return CompletableFuture.runAsync(task, commandExecutor);
+    }
+
+    /**
+     * Queues {@code query} to be run on the command thread after all commands and tasks submitted before it.
+     * The returned future is completed on the command thread with the result of the query.
+     */
+    public <T> CompletableFuture<T> submitQuery(Supplier<T> query) {
+        requireNonNull(query);
+        return CompletableFuture.supplyAsync(query, commandExecutor);
+    }
+
+    /**
+     * Stops accepting commands, and waits up to {@link #SHUTDOWN_TIMEOUT_SECONDS} seconds for the commands already
+     * submitted to be executed.
+     *
+     * @see #shutdown(long, TimeUnit)
+     */
+    public void shutdown() {
+        shutdown(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops accepting commands, and waits up to {@code timeout} for the commands already submitted to be executed.
+     * Their results may not be delivered, as the UI thread may be shutting down too. Commands still executing after
+     * the timeout are left to run on, as the command thread does not keep the application alive.
+     *
+     * @return true if every command submitted was executed in time.
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) {
+        commandExecutor.shutdown();
+        try {
+            if (commandExecutor.awaitTermination(timeout, unit)) {
+                return true;
+            }
+            logger.warning("Commands were still executing after waiting " + timeout + " "
+                    + unit.toString().toLowerCase() + ", so they may not be saved");
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while waiting for commands to finish");
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private void execute(String commandText, CompletableFuture<CommandResult> futureResult) {
+        try {
+            CommandResult commandResult = logic.execute(commandText);
+            publish(() -> futureResult.complete(commandResult));
+        } catch (CommandException | ParseException | RuntimeException e) {
+            publish(() -> futureResult.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Queues the changes described by {@code change} to be made to the copy of the filtered person list.
+     * The persons involved are copied, as {@code change} is only valid while it is being reported.
+     */
+    private void recordChange(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                // persons are immutable, so their updates leave the copy unchanged
+                continue;
+            }
+
+            int from = change.getFrom();
+            int removedSize;
+            List<Person> added;
+            if (change.wasPermutated()) {
+                removedSize = change.getTo() - from;
+                added = new ArrayList<>(change.getList().subList(from, change.getTo()));
+            } else {
+                removedSize = change.getRemovedSize();
+                added = new ArrayList<>(change.getAddedSubList());
+            }
+            publish(() -> {
+                if (removedSize > 0) {
+                    personList.remove(from, from + removedSize);
+                }
+                if (!added.isEmpty()) {
+                    personList.addAll(from, added);
+                }
+            });
+        }
+    }
+
+    /**
+     * Queues {@code update} to be run on the UI thread after the updates queued before it.
+     */
+    private void publish(Runnable update) {
+        synchronized (this) {
+            pendingUpdates.add(update);
+            if (isUpdateScheduled) {
+                return;
+            }
+            isUpdateScheduled = true;
+        }
+        uiThreadExecutor.execute(this::applyPendingUpdates);
+    }
+
+    private void applyPendingUpdates() {
+        List<Runnable> updates;
+        synchronized (this) {
+            updates = new ArrayList<>(pendingUpdates);
+            pendingUpdates.clear();
+            isUpdateScheduled = false;
+        }
+        updates.forEach(Runnable::run);
+    }
+
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +24,38 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command like {@link #execute(String)}, but leaves the address book to be saved later by
+     * {@link #saveAddressBook()}, so that a run of commands can be saved once.
+     */
+    CommandResult executeWithoutSaving(String commandText) throws CommandException, ParseException;
+
+    /**
+     * Saves the address book, unless it has not changed since it was last saved.
+     * @return true if the address book was saved, or false if the save was skipped.
+     * @throws CommandException If an error occurs during saving.
+     */
+    boolean saveAddressBook() throws CommandException;
+
+    /**
+     * Blocks until every save of the address book has been written to the data file, including saves that storage
+     * writes in the background.
+     * @throws CommandException If an error occurs during writing.
+     */
+    void flushSaves() throws CommandException;
+
+    /**
+     * Returns the number of executed commands that did not need the address book to be saved
+     * because they left the address book data unchanged.
+     */
+    long getSkippedSaveCount();
+
+    /**
+     * Sets the handler given the error message of any address book save that fails after its command has returned.
+     * The handler may be called from a thread other than the one that executed the command.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
     /**
      * Returns the AddressBook.
      *
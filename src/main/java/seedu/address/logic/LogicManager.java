@@ -1,13 +1,17 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandMetrics.Phase;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -27,38 +31,195 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** Version recorded before anything has been saved, which no address book version can be equal to. */
+    private static final long UNSAVED_VERSION = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandMetrics commandMetrics;
+
+    /**
+     * Address book version that was last handed to storage. It is forgotten when a save fails, including saves that
+     * fail in the background after their command has returned, so that the next command saves again.
+     */
+    private volatile long savedAddressBookVersion = UNSAVED_VERSION;
+    private long skippedSaveCount;
+    private volatile Consumer<String> saveErrorHandler = logger::warning;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which records commands into
+     * metrics of its own.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new CommandMetrics());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which records commands into
+     * {@code commandMetrics} and shows them with the {@code stats} command.
+     */
+    public LogicManager(Model model, Storage storage, CommandMetrics commandMetrics) {
+        this(model, storage, new AddressBookParser(commandMetrics), commandMetrics);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which parses commands with
+     * {@code addressBookParser} and records them into {@code commandMetrics}.
+     */
+    public LogicManager(Model model, Storage storage, AddressBookParser addressBookParser,
+            CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        this.addressBookParser = addressBookParser;
+        this.commandMetrics = commandMetrics;
+        storage.setSaveFailureHandler(this::handleSaveFailure);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        boolean isSuccessful = false;
+        boolean isSaved = false;
+        try {
+            CommandResult commandResult = parseAndExecute(commandText);
+
+            long saveStartTime = System.nanoTime();
+            isSaved = saveAddressBook();
+            // commands that leave the address book unchanged are not saved, so they have no save phase to record
+            if (isSaved) {
+                commandMetrics.record(CommandMetrics.getCommandWord(commandText), Phase.SAVE,
+                        System.nanoTime() - saveStartTime);
+            }
+
+            isSuccessful = true;
+            return commandResult;
+        } finally {
+            commitCommandEvent(event, commandText, isSuccessful, isSaved);
+        }
+    }
+
+    @Override
+    public CommandResult executeWithoutSaving(String commandText) throws CommandException, ParseException {
+        // logged at a lower level than commands from the user, as scripts run many commands in quick succession
+        logger.fine("----------------[UNSAVED COMMAND][" + commandText + "]");
+
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        boolean isSuccessful = false;
+        try {
+            CommandResult commandResult = parseAndExecute(commandText);
+            isSuccessful = true;
+            return commandResult;
+        } finally {
+            commitCommandEvent(event, commandText, isSuccessful, false);
+        }
+    }
+
+    /**
+     * Ends {@code event} and commits it with the details of the command, if it is being recorded.
+     * The details are only looked up when the event is recorded, so that commands cost next to nothing extra when
+     * no flight recording is running.
+     */
+    private void commitCommandEvent(CommandEvent event, String commandText, boolean isSuccessful, boolean isSaved) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.commandWord = CommandMetrics.getCommandWord(commandText);
+        event.personCount = model.getAddressBook().getPersonList().size();
+        event.isSuccessful = isSuccessful;
+        event.isSaved = isSaved;
+        event.commit();
+    }
+
+    /**
+     * Parses and executes {@code commandText}, recording the time taken by each phase in the command metrics.
+     * Commands that cannot be parsed are recorded under {@link CommandMetrics#INVALID_COMMAND_WORD}, so that mistyped
+     * command words do not each get their own histograms.
+     */
+    private CommandResult parseAndExecute(String commandText) throws CommandException, ParseException {
+        long parseStartTime = System.nanoTime();
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            commandMetrics.record(CommandMetrics.INVALID_COMMAND_WORD, Phase.PARSE, System.nanoTime() - parseStartTime);
+            throw pe;
+        }
+        String commandWord = CommandMetrics.getCommandWord(commandText);
+        long executeStartTime = System.nanoTime();
+        commandMetrics.record(commandWord, Phase.PARSE, executeStartTime - parseStartTime);
+
+        try {
+            return command.execute(model);
+        } finally {
+            commandMetrics.record(commandWord, Phase.EXECUTE, System.nanoTime() - executeStartTime);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The first call always saves, so that the data file reflects what was loaded at startup.
+     */
+    @Override
+    public boolean saveAddressBook() throws CommandException {
+        long currentVersion = model.getAddressBookVersion();
+        if (currentVersion == savedAddressBookVersion) {
+            skippedSaveCount++;
+            logger.fine("Address book unchanged, skipping save");
+            return false;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
+        savedAddressBookVersion = currentVersion;
+        return true;
+    }
 
-        return commandResult;
+    @Override
+    public void flushSaves() throws CommandException {
+        try {
+            storage.flush();
+        } catch (IOException ioe) {
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
+        }
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    @Override
+    public long getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        this.saveErrorHandler = saveErrorHandler;
+    }
+
+    /**
+     * Handles the failure of a save that completed after its command had returned.
+     */
+    private void handleSaveFailure(IOException ioe) {
+        // the data file no longer holds the version last saved, so even an unchanged address book must be saved again
+        savedAddressBookVersion = UNSAVED_VERSION;
+        saveErrorHandler.accept(getSaveErrorMessage(ioe));
     }
 
     @Override
@@ -1,5 +1,6 @@
 package seedu.address.logic;
 
+import java.util.Collection;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -19,6 +20,9 @@ public class Messages {
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
 
+    /** Number of names listed by {@link #formatNames(Collection)} before the rest are only counted. */
+    public static final int MAX_NAMES_SHOWN = 5;
+
     /**
      * Returns an error message indicating the duplicate prefixes.
      */
@@ -48,4 +52,17 @@ public class Messages {
         return builder.toString();
     }
 
+    /**
+     * Formats the names of {@code persons} for display to the user, listing at most {@link #MAX_NAMES_SHOWN}
+     * of them and only counting the rest.
+     */
+    public static String formatNames(Collection<Person> persons) {
+        String shownNames = persons.stream()
+                .limit(MAX_NAMES_SHOWN)
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.joining(", "));
+        int hiddenCount = persons.size() - MAX_NAMES_SHOWN;
+        return hiddenCount > 0 ? shownNames + " and " + hiddenCount + " more" : shownNames;
+    }
+
 }
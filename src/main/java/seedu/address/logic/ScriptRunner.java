@@ -0,0 +1,159 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs a script of commands, one command per line, without a UI.
+ * The address book is saved once after the last command rather than after every command that changes it.
+ *
+ * Blank lines and lines starting with {@link #COMMENT_PREFIX} are skipped. A command that fails is reported with
+ * its line number, and the script carries on with the next line. An exit command ends the script early.
+ */
+public class ScriptRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s";
+    public static final String MESSAGE_SUMMARY = "Ran %1$d commands (%2$d failed) in %3$d ms, saved in %4$d ms";
+    public static final String MESSAGE_TIMING_HEADER = String.format("%-10s %9s %9s %12s %12s %12s",
+            "Command", "Count", "Failed", "Total (ms)", "Mean (us)", "Max (us)");
+    private static final String MESSAGE_TIMING_ROW = "%-10s %9d %9d %12.1f %12.1f %12.1f";
+
+    private static final Logger logger = LogsCenter.getLogger(ScriptRunner.class);
+
+    private final Logic logic;
+    private final PrintStream output;
+
+    /**
+     * Creates a {@code ScriptRunner} that executes commands with {@code logic} and prints failures and a summary
+     * to {@code output}.
+     */
+    public ScriptRunner(Logic logic, PrintStream output) {
+        requireNonNull(logic);
+        requireNonNull(output);
+        this.logic = logic;
+        this.output = output;
+    }
+
+    /**
+     * Runs every command in {@code script}, saves the address book and waits for it to be written, and prints a
+     * summary with the time taken by each kind of command.
+     * If the script cannot be read to the end, or a command throws anything other than a {@code CommandException} or
+     * {@code ParseException}, the changes made by the commands run before are still saved before the exception is
+     * rethrown.
+     *
+     * @return the number of commands that failed.
+     * @throws IOException If the script cannot be read.
+     * @throws CommandException If the address book cannot be saved or written.
+     */
+    public int run(BufferedReader script) throws IOException, CommandException {
+        requireNonNull(script);
+        Map<String, CommandTimings> timingsByCommandWord = new LinkedHashMap<>();
+        int commandCount = 0;
+        int failedCount = 0;
+
+        long startTime = System.nanoTime();
+        int lineNumber = 0;
+        String line;
+        boolean isRunCompleted = false;
+        try {
+            while ((line = script.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                CommandTimings timings = timingsByCommandWord.computeIfAbsent(getCommandWord(commandText),
+                        unused -> new CommandTimings());
+                commandCount++;
+                long commandStartTime = System.nanoTime();
+                try {
+                    CommandResult commandResult = logic.executeWithoutSaving(commandText);
+                    timings.record(System.nanoTime() - commandStartTime, true);
+                    if (commandResult.isExit()) {
+                        break;
+                    }
+                } catch (CommandException | ParseException e) {
+                    timings.record(System.nanoTime() - commandStartTime, false);
+                    failedCount++;
+                    output.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, e.getMessage()));
+                }
+            }
+            isRunCompleted = true;
+        } finally {
+            if (!isRunCompleted) {
+                saveAfterFailure();
+            }
+        }
+        long saveStartTime = System.nanoTime();
+        logic.saveAddressBook();
+        // the summary reports the time taken to write the data file, not only to hand it to storage
+        logic.flushSaves();
+        long endTime = System.nanoTime();
+
+        String summary = String.format(MESSAGE_SUMMARY, commandCount, failedCount,
+                TimeUnit.NANOSECONDS.toMillis(saveStartTime - startTime),
+                TimeUnit.NANOSECONDS.toMillis(endTime - saveStartTime));
+        logger.info(summary);
+        output.println(summary);
+        output.println(MESSAGE_TIMING_HEADER);
+        timingsByCommandWord.forEach((commandWord, timings) -> output.println(timings.format(commandWord)));
+        return failedCount;
+    }
+
+    /**
+     * Saves the changes made by the commands run so far, after the script could not be run to the end.
+     * A failure to save is only logged, so that it does not hide the reason the script was stopped.
+     */
+    private void saveAfterFailure() {
+        try {
+            logic.saveAddressBook();
+            logic.flushSaves();
+        } catch (CommandException e) {
+            logger.warning("Failed to save the commands run before the script was stopped: " + e.getMessage());
+        }
+    }
+
+    private static String getCommandWord(String commandText) {
+        return commandText.split("\\s+", 2)[0];
+    }
+
+    /**
+     * The number of runs and the times taken by the commands sharing a command word.
+     */
+    private static class CommandTimings {
+        private int count;
+        private int failedCount;
+        private long totalNanos;
+        private long maxNanos;
+
+        void record(long elapsedNanos, boolean isSuccessful) {
+            count++;
+            if (!isSuccessful) {
+                failedCount++;
+            }
+            totalNanos += elapsedNanos;
+            maxNanos = Math.max(maxNanos, elapsedNanos);
+        }
+
+        String format(String commandWord) {
+            return String.format(MESSAGE_TIMING_ROW, commandWord, count, failedCount, totalNanos / 1e6,
+                    totalNanos / 1e3 / count, maxNanos / 1e3);
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+/**
+ * Executes several commands as one, so that either all of them change the address book or none of them do.
+ * As the batch is a single command, the address book is saved once for the whole batch.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+    public static final String END_WORD = "end";
+    public static final String COMMAND_SEPARATOR = ";";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Executes the given commands in order, as one command. "
+            + "If any of them fails, none of their changes are kept.\n"
+            + "Parameters: COMMAND [" + COMMAND_SEPARATOR + " COMMAND]... " + END_WORD + "\n"
+            + "Example: " + COMMAND_WORD + " delete 3" + COMMAND_SEPARATOR + " edit 1 p/91234567 " + END_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Executed %1$d commands:\n%2$s";
+    public static final String MESSAGE_INVALID_COMMAND = "Invalid command %1$d in batch: %2$s";
+    public static final String MESSAGE_UNSUPPORTED_COMMAND = "Command %1$d cannot be used in a batch: %2$s";
+    public static final String MESSAGE_COMMAND_FAILED = "Command %1$d in batch failed, so no changes were made: %2$s";
+
+    private final List<Command> commands;
+
+    /**
+     * Creates a {@code BatchCommand} that executes {@code commands} in order.
+     */
+    public BatchCommand(List<Command> commands) {
+        requireNonNull(commands);
+        this.commands = new ArrayList<>(commands);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        // the commands are executed on a staged copy of the model that displays the same list, so that their
+        // indexes refer to what the user sees, and the live model is left untouched if any of them fails
+        ModelManager stagedModel = new ModelManager(model.getAddressBook(), model.getUserPrefs());
+        stagedModel.updateFilteredPersonList(model.getFilteredPersonListPredicate());
+        long stagedVersionBeforeBatch = stagedModel.getAddressBookVersion();
+
+        List<String> feedback = new ArrayList<>();
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                feedback.add(commands.get(i).execute(stagedModel).getFeedbackToUser());
+            } catch (CommandException ce) {
+                throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, i + 1, ce.getMessage()), ce);
+            }
+        }
+
+        // all the changes are committed together, which replaces the persons of the live model once
+        if (stagedModel.getAddressBookVersion() != stagedVersionBeforeBatch) {
+            model.setAddressBook(stagedModel.getAddressBook());
+        }
+        model.updateFilteredPersonList(stagedModel.getFilteredPersonListPredicate());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size(), String.join("\n", feedback)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchCommand)) {
+            return false;
+        }
+
+        BatchCommand otherBatchCommand = (BatchCommand) other;
+        return commands.equals(otherBatchCommand.commands);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commands", commands)
+                .toString();
+    }
+}
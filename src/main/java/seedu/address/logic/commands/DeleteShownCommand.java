@@ -0,0 +1,32 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Deletes every person in the displayed person list from the address book, all at once.
+ */
+public class DeleteShownCommand extends Command {
+
+    public static final String COMMAND_WORD = "deleteshown";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Deletes every person in the displayed person list.\n"
+            + "Example: find alex followed by " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Deleted %1$d persons";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Person> personsToDelete = new ArrayList<>(model.getFilteredPersonList());
+        if (!personsToDelete.isEmpty()) {
+            model.deletePersons(personsToDelete);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, personsToDelete.size()));
+    }
+}
@@ -6,11 +6,13 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -29,16 +31,16 @@ import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
 
 /**
- * Edits the details of an existing person in the address book.
+ * Edits the details of existing persons in the address book.
  */
 public class EditCommand extends Command {
 
     public static final String COMMAND_WORD = "edit";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the details of the person identified "
-            + "by the index number used in the displayed person list. "
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the details of the persons identified "
+            + "by the index numbers used in the displayed person list. "
             + "Existing values will be overwritten by the input values.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+            + "Parameters: INDEXES (positive integers or ranges of them, separated by commas) "
             + "[" + PREFIX_NAME + "NAME] "
             + "[" + PREFIX_PHONE + "PHONE] "
             + "[" + PREFIX_EMAIL + "EMAIL] "
@@ -46,13 +48,18 @@ public class EditCommand extends Command {
             + "[" + PREFIX_TAG + "TAG]...\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_PHONE + "91234567 "
-            + PREFIX_EMAIL + "johndoe@example.com";
+            + PREFIX_EMAIL + "johndoe@example.com\n"
+            + "Example: " + COMMAND_WORD + " 1-3,5 "
+            + PREFIX_TAG + "colleague";
 
     public static final String MESSAGE_EDIT_PERSON_SUCCESS = "Edited Person: %1$s";
+    public static final String MESSAGE_EDIT_PERSONS_SUCCESS = "Edited %1$d Persons: %2$s";
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided.";
     public static final String MESSAGE_DUPLICATE_PERSON = "This person already exists in the address book.";
+    public static final String MESSAGE_NAME_FOR_MULTIPLE_PERSONS =
+            "The name can only be edited one person at a time, as no two persons may share a name.";
 
-    private final Index index;
+    private final List<Index> indexes;
     private final EditPersonDescriptor editPersonDescriptor;
 
     /**
@@ -60,10 +67,19 @@ public class EditCommand extends Command {
      * @param editPersonDescriptor details to edit the person with
      */
     public EditCommand(Index index, EditPersonDescriptor editPersonDescriptor) {
-        requireNonNull(index);
+        this(List.of(index), editPersonDescriptor);
+    }
+
+    /**
+     * @param indexes of the persons in the filtered person list to edit, which must not be empty
+     * @param editPersonDescriptor details to edit every one of the persons with
+     */
+    public EditCommand(List<Index> indexes, EditPersonDescriptor editPersonDescriptor) {
+        requireNonNull(indexes);
         requireNonNull(editPersonDescriptor);
+        assert !indexes.isEmpty();
 
-        this.index = index;
+        this.indexes = new ArrayList<>(indexes);
         this.editPersonDescriptor = new EditPersonDescriptor(editPersonDescriptor);
     }
 
@@ -72,20 +88,37 @@ public class EditCommand extends Command {
         requireNonNull(model);
         List<Person> lastShownList = model.getFilteredPersonList();
 
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        List<Person> personsToEdit = new ArrayList<>(indexes.size());
+        for (Index index : indexes) {
+            if (index.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+            personsToEdit.add(lastShownList.get(index.getZeroBased()));
         }
 
-        Person personToEdit = lastShownList.get(index.getZeroBased());
-        Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
+        // several persons given the same name would no longer be unique
+        if (personsToEdit.size() > 1 && editPersonDescriptor.getName().isPresent()) {
+            throw new CommandException(MESSAGE_NAME_FOR_MULTIPLE_PERSONS);
+        }
 
-        if (!personToEdit.isSamePerson(editedPerson) && model.hasPerson(editedPerson)) {
-            throw new CommandException(MESSAGE_DUPLICATE_PERSON);
+        Map<Person, Person> editedPersons = new LinkedHashMap<>();
+        for (Person personToEdit : personsToEdit) {
+            Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
+            if (!personToEdit.isSamePerson(editedPerson) && model.hasPerson(editedPerson)) {
+                throw new CommandException(MESSAGE_DUPLICATE_PERSON);
+            }
+            editedPersons.put(personToEdit, editedPerson);
         }
 
-        model.setPerson(personToEdit, editedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
+        if (editedPersons.size() == 1) {
+            Map.Entry<Person, Person> edit = editedPersons.entrySet().iterator().next();
+            model.setPerson(edit.getKey(), edit.getValue());
+            return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(edit.getValue())));
+        }
+        // the persons are replaced together, so that the address book and its indexes are updated once
+        model.setPersons(editedPersons);
+        return new CommandResult(String.format(MESSAGE_EDIT_PERSONS_SUCCESS, editedPersons.size(),
+                Messages.formatNames(editedPersons.values())));
     }
 
     /**
@@ -116,14 +149,14 @@ public class EditCommand extends Command {
         }
 
         EditCommand otherEditCommand = (EditCommand) other;
-        return index.equals(otherEditCommand.index)
+        return indexes.equals(otherEditCommand.indexes)
                 && editPersonDescriptor.equals(otherEditCommand.editPersonDescriptor);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("index", index)
+                .add("indexes", indexes)
                 .add("editPersonDescriptor", editPersonDescriptor)
                 .toString();
     }
@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXCLUDED_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.TagsMatchPredicate;
+
+/**
+ * Finds and lists all persons in address book whose tags match the given combination of tags.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String TAG_ALTERNATIVE_SEPARATOR = "|";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons who have a tag of every "
+            + PREFIX_TAG + " group, and none of the " + PREFIX_EXCLUDED_TAG + " tags, "
+            + "and displays them as a list with index numbers.\n"
+            + "Parameters: "
+            + "[" + PREFIX_TAG + "TAG[" + TAG_ALTERNATIVE_SEPARATOR + "MORE_TAGS]]... "
+            + "[" + PREFIX_EXCLUDED_TAG + "TAG]...\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_TAG + "friends" + TAG_ALTERNATIVE_SEPARATOR + "family "
+            + PREFIX_TAG + "colleagues "
+            + PREFIX_EXCLUDED_TAG + "inactive";
+
+    private final TagsMatchPredicate predicate;
+
+    public FilterCommand(TagsMatchPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterCommand)) {
+            return false;
+        }
+
+        FilterCommand otherFilterCommand = (FilterCommand) other;
+        return predicate.equals(otherFilterCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.util.PersonGenerator;
+
+/**
+ * Adds made-up persons to the address book, for trying out the app with large amounts of data.
+ */
+public class GenerateCommand extends Command {
+
+    public static final String COMMAND_WORD = "generate";
+
+    /** Maximum number of persons generated by one command, which bounds the memory the command uses. */
+    public static final int MAX_COUNT = 1_000_000;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the given number of made-up persons to the "
+            + "address book, for trying out the app with large amounts of data.\n"
+            + "Parameters: COUNT (must be a positive integer of at most " + MAX_COUNT + ")\n"
+            + "Example: " + COMMAND_WORD + " 100000";
+
+    public static final String MESSAGE_SUCCESS = "Generated %1$d persons";
+    public static final String MESSAGE_COUNT_TOO_LARGE = "At most %1$d persons can be generated at a time.";
+
+    private final int count;
+
+    /**
+     * Creates a {@code GenerateCommand} that adds {@code count} persons, which must be at most {@link #MAX_COUNT}.
+     */
+    public GenerateCommand(int count) {
+        assert count <= MAX_COUNT;
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // the persons are added to a copy of the address book, so that the model is only changed once rather than once
+        // per person, and numbered after the highest number already used, so that generating again adds new persons
+        AddressBook addressBook = new AddressBook(model.getAddressBook());
+        int addedCount = new PersonGenerator(PersonGenerator.DEFAULT_SEED).addPersons(addressBook,
+                PersonGenerator.getNextPosition(addressBook), count);
+        model.setAddressBook(addressBook);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, addedCount));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GenerateCommand)) {
+            return false;
+        }
+
+        GenerateCommand otherGenerateCommand = (GenerateCommand) other;
+        return count == otherGenerateCommand.count;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("count", count)
+                .toString();
+    }
+}
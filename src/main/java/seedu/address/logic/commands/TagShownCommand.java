@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMOVE_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Adds tags to and removes tags from every person in the displayed person list, all at once.
+ */
+public class TagShownCommand extends Command {
+
+    public static final String COMMAND_WORD = "tagshown";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds tags to and removes tags from every person "
+            + "in the displayed person list. Tags that are not mentioned are left unchanged.\n"
+            + "Parameters: "
+            + "[" + PREFIX_TAG + "TAG_TO_ADD]... "
+            + "[" + PREFIX_REMOVE_TAG + "TAG_TO_REMOVE]...\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_TAG + "colleague "
+            + PREFIX_REMOVE_TAG + "friends";
+
+    public static final String MESSAGE_SUCCESS = "Retagged %1$d of %2$d persons shown";
+    public static final String MESSAGE_NOT_TAGGED = "At least one tag to add or remove must be provided.";
+
+    private final Set<Tag> tagsToAdd;
+    private final Set<Tag> tagsToRemove;
+
+    /**
+     * Creates a {@code TagShownCommand} that adds {@code tagsToAdd} and removes {@code tagsToRemove}.
+     * A tag in both sets ends up added.
+     */
+    public TagShownCommand(Set<Tag> tagsToAdd, Set<Tag> tagsToRemove) {
+        requireNonNull(tagsToAdd);
+        requireNonNull(tagsToRemove);
+        this.tagsToAdd = new HashSet<>(tagsToAdd);
+        this.tagsToRemove = new HashSet<>(tagsToRemove);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        int shownCount = model.getFilteredPersonList().size();
+
+        // persons whose tags stay the same are left out, so that they are not replaced needlessly
+        Map<Person, Person> editedPersons = new HashMap<>();
+        for (Person person : model.getFilteredPersonList()) {
+            Set<Tag> updatedTags = new HashSet<>(person.getTags());
+            updatedTags.removeAll(tagsToRemove);
+            updatedTags.addAll(tagsToAdd);
+            if (!updatedTags.equals(person.getTags())) {
+                editedPersons.put(person, new Person(person.getName(), person.getPhone(), person.getEmail(),
+                        person.getAddress(), updatedTags));
+            }
+        }
+
+        if (!editedPersons.isEmpty()) {
+            model.setPersons(editedPersons);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, editedPersons.size(), shownCount));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TagShownCommand)) {
+            return false;
+        }
+
+        TagShownCommand otherTagShownCommand = (TagShownCommand) other;
+        return tagsToAdd.equals(otherTagShownCommand.tagsToAdd)
+                && tagsToRemove.equals(otherTagShownCommand.tagsToRemove);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("tagsToAdd", tagsToAdd)
+                .add("tagsToRemove", tagsToRemove)
+                .toString();
+    }
+}
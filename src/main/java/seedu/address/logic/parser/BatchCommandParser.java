@@ -0,0 +1,75 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BatchCommand object
+ */
+public class BatchCommandParser implements Parser<BatchCommand> {
+
+    /** Separates the commands from the end word, which must be a word of its own. */
+    private static final Pattern BATCH_FORMAT = Pattern.compile(
+            "(?<commands>.*?)(?<![^\\s" + BatchCommand.COMMAND_SEPARATOR + "])" + BatchCommand.END_WORD);
+
+    private final AddressBookParser addressBookParser;
+
+    /**
+     * Creates a {@code BatchCommandParser} that parses the commands in a batch with {@code addressBookParser}.
+     */
+    public BatchCommandParser(AddressBookParser addressBookParser) {
+        requireNonNull(addressBookParser);
+        this.addressBookParser = addressBookParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BatchCommand
+     * and returns a BatchCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public BatchCommand parse(String args) throws ParseException {
+        Matcher matcher = BATCH_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+
+        List<Command> commands = new ArrayList<>();
+        for (String commandText : matcher.group("commands").split(BatchCommand.COMMAND_SEPARATOR)) {
+            if (!commandText.isBlank()) {
+                commands.add(parseCommand(commandText, commands.size() + 1));
+            }
+        }
+        if (commands.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+        return new BatchCommand(commands);
+    }
+
+    private Command parseCommand(String commandText, int commandNumber) throws ParseException {
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(BatchCommand.MESSAGE_INVALID_COMMAND, commandNumber,
+                    pe.getMessage()), pe);
+        }
+
+        if (command instanceof BatchCommand || command instanceof HelpCommand || command instanceof ExitCommand) {
+            throw new ParseException(String.format(BatchCommand.MESSAGE_UNSUPPORTED_COMMAND, commandNumber,
+                    commandText.trim()));
+        }
+        return command;
+    }
+
+}
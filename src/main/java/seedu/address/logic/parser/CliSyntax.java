@@ -11,5 +11,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_EMAIL = new Prefix("e/");
     public static final Prefix PREFIX_ADDRESS = new Prefix("a/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
+    public static final Prefix PREFIX_REMOVE_TAG = new Prefix("rt/");
+    public static final Prefix PREFIX_EXCLUDED_TAG = new Prefix("-t/");
 
 }
@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXCLUDED_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.TagsMatchPredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new FilterCommand object
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterCommand
+     * and returns a FilterCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_EXCLUDED_TAG);
+
+        List<String> tagGroups = argMultimap.getAllValues(PREFIX_TAG);
+        List<String> excludedTags = argMultimap.getAllValues(PREFIX_EXCLUDED_TAG);
+        if (!argMultimap.getPreamble().isEmpty() || (tagGroups.isEmpty() && excludedTags.isEmpty())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+
+        List<Set<Tag>> requiredTagGroups = new ArrayList<>();
+        for (String tagGroup : tagGroups) {
+            String[] alternatives = tagGroup.split(Pattern.quote(FilterCommand.TAG_ALTERNATIVE_SEPARATOR), -1);
+            requiredTagGroups.add(ParserUtil.parseTags(Arrays.asList(alternatives)));
+        }
+
+        return new FilterCommand(new TagsMatchPredicate(requiredTagGroups, ParserUtil.parseTags(excludedTags)));
+    }
+
+}
@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.GenerateCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new GenerateCommand object
+ */
+public class GenerateCommandParser implements Parser<GenerateCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the GenerateCommand
+     * and returns a GenerateCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public GenerateCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, GenerateCommand.MESSAGE_USAGE));
+        }
+        int count = Integer.parseInt(trimmedArgs);
+        if (count > GenerateCommand.MAX_COUNT) {
+            throw new ParseException(String.format(GenerateCommand.MESSAGE_COUNT_TOO_LARGE, GenerateCommand.MAX_COUNT));
+        }
+        return new GenerateCommand(count);
+    }
+
+}
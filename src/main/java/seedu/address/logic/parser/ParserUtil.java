@@ -2,9 +2,13 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
@@ -22,6 +26,16 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
 
+    /** Maximum number of indexes that {@link #parseIndexes(String)} accepts, which bounds the memory it uses. */
+    public static final int MAX_INDEX_COUNT = 1_000_000;
+
+    public static final String INDEX_SEPARATOR = ",";
+    public static final String INDEX_RANGE_SEPARATOR = "-";
+
+    public static final String MESSAGE_INVALID_INDEXES = "Indexes are a list of non-zero unsigned integers, or ranges "
+            + "of them, separated by '" + INDEX_SEPARATOR + "' (e.g. 3" + INDEX_RANGE_SEPARATOR + "120"
+            + INDEX_SEPARATOR + "140" + INDEX_SEPARATOR + "200), covering at most " + MAX_INDEX_COUNT + " indexes.";
+
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
      * trimmed.
@@ -35,6 +49,49 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code oneBasedIndexes}, a list of indexes and ranges of indexes such as {@code 3-120,140,200}, into
+     * the {@code Index}es it covers, in ascending order and without duplicates. Whitespaces around each index will be
+     * trimmed.
+     * @throws ParseException if any index is invalid, a range ends before it starts, or there are too many indexes.
+     */
+    public static List<Index> parseIndexes(String oneBasedIndexes) throws ParseException {
+        requireNonNull(oneBasedIndexes);
+        List<int[]> ranges = new ArrayList<>();
+        long indexCount = 0;
+        for (String part : oneBasedIndexes.split(INDEX_SEPARATOR, -1)) {
+            String[] bounds = part.split(INDEX_RANGE_SEPARATOR, -1);
+            if (bounds.length > 2) {
+                throw new ParseException(MESSAGE_INVALID_INDEXES);
+            }
+            int first = parseOneBasedIndex(bounds[0]);
+            int last = bounds.length == 2 ? parseOneBasedIndex(bounds[1]) : first;
+            indexCount += (long) last - first + 1;
+            if (last < first || indexCount > MAX_INDEX_COUNT) {
+                throw new ParseException(MESSAGE_INVALID_INDEXES);
+            }
+            ranges.add(new int[] {first, last});
+        }
+
+        int[] indexes = new int[(int) indexCount];
+        int position = 0;
+        for (int[] range : ranges) {
+            for (int index = range[0]; index <= range[1]; index++) {
+                indexes[position++] = index;
+            }
+        }
+        Arrays.sort(indexes);
+        return Arrays.stream(indexes).distinct().mapToObj(Index::fromOneBased).collect(Collectors.toList());
+    }
+
+    private static int parseOneBasedIndex(String oneBasedIndex) throws ParseException {
+        String trimmedIndex = oneBasedIndex.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedIndex)) {
+            throw new ParseException(MESSAGE_INVALID_INDEXES);
+        }
+        return Integer.parseInt(trimmedIndex);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMOVE_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Set;
+
+import seedu.address.logic.commands.TagShownCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new TagShownCommand object
+ */
+public class TagShownCommandParser implements Parser<TagShownCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the TagShownCommand
+     * and returns a TagShownCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public TagShownCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_REMOVE_TAG);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TagShownCommand.MESSAGE_USAGE));
+        }
+
+        Set<Tag> tagsToAdd = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        Set<Tag> tagsToRemove = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_REMOVE_TAG));
+        if (tagsToAdd.isEmpty() && tagsToRemove.isEmpty()) {
+            throw new ParseException(TagShownCommand.MESSAGE_NOT_TAGGED);
+        }
+
+        return new TagShownCommand(tagsToAdd, tagsToRemove);
+    }
+
+}
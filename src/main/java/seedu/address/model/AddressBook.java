@@ -2,7 +2,9 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
@@ -17,6 +19,9 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
 
+    /** Incremented on every change to {@code persons}, so that callers can tell whether the data has changed. */
+    private long version;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -46,6 +51,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version++;
     }
 
     /**
@@ -54,6 +60,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook) {
+            // the persons of another AddressBook are already known to be unique, so its index can be reused as is
+            persons.setPersons(((AddressBook) newData).persons);
+            version++;
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
@@ -73,6 +85,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        version++;
     }
 
     /**
@@ -84,6 +97,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        version++;
     }
 
     /**
@@ -92,10 +106,38 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        version++;
+    }
+
+    /**
+     * Removes {@code keys} from this {@code AddressBook} all at once.
+     * Every person in {@code keys} must exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        persons.removeAll(keys);
+        version++;
+    }
+
+    /**
+     * Replaces every person in this {@code AddressBook} that is a key of {@code editedPersons} with the person it
+     * maps to, all at once.
+     * Every key must exist in the address book, and the persons after the replacement must be unique.
+     */
+    public void replacePersons(Map<Person, Person> editedPersons) {
+        persons.replaceAll(editedPersons);
+        version++;
     }
 
     //// util methods
 
+    /**
+     * Returns a number that changes every time the persons in this address book are modified.
+     * Versions only ever increase and start from zero.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -0,0 +1,29 @@
+package seedu.address.model;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for updating the filter of the filtered person list.
+ */
+@Name("seedu.address.Filter")
+@Label("Filter Update")
+@Category({"AddressBook", "Model"})
+@Description("The filtered person list updated with a new predicate")
+class FilterEvent extends Event {
+
+    @Label("Predicate")
+    @Description("The predicate that persons are filtered by, such as the keywords searched for")
+    String predicate;
+
+    @Label("Person Count")
+    int personCount;
+
+    @Label("Shown Count")
+    @Description("Number of persons in the filtered person list afterwards")
+    int shownCount;
+
+}
@@ -1,6 +1,8 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -52,6 +54,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a number that changes every time the address book data is modified.
+     * Versions only ever increase and start from zero, so an unchanged version means there is nothing new to save.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -64,13 +72,30 @@ public interface Model {
     void deletePerson(Person target);
 
     /**
-     * Adds the given person.
+     * Deletes the given persons all at once.
+     * Every person in {@code targets} must exist in the address book.
+     */
+    void deletePersons(Collection<Person> targets);
+
+    /**
+     * Replaces every person that is a key of {@code editedPersons} with the person it maps to, all at once, and
+     * shows all persons unless the user prefers to keep the current filter.
+     * Every key must exist in the address book.
+     * The persons after the replacement must not share an identity with one another.
+     */
+    void setPersons(Map<Person, Person> editedPersons);
+
+    /**
+     * Adds the given person, and shows all persons unless the user prefers to keep the current filter.
      * {@code person} must not already exist in the address book.
+     *
+     * @see ReadOnlyUserPrefs#isFilterKeptOnChange()
      */
     void addPerson(Person person);
 
     /**
-     * Replaces the given person {@code target} with {@code editedPerson}.
+     * Replaces the given person {@code target} with {@code editedPerson}, and shows all persons unless the user
+     * prefers to keep the current filter.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
      */
@@ -84,4 +109,9 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Returns the predicate that the filtered person list was last filtered by.
+     */
+    Predicate<Person> getFilteredPersonListPredicate();
 }
@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -11,7 +14,9 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TagsMatchPredicate;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -21,7 +26,11 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
+    private final NameTokenIndex nameTokenIndex;
+    private final TagIndex tagIndex;
     private final FilteredList<Person> filteredPersons;
+    /** The predicate last given to {@link #updateFilteredPersonList}, which may differ from the one applied. */
+    private Predicate<Person> filteredPersonListPredicate = PREDICATE_SHOW_ALL_PERSONS;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -29,10 +38,14 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        // the message lists every person, so it is only built when it is logged
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        // created before the filtered list, so that the index is updated before the filtered list re-filters
+        nameTokenIndex = new NameTokenIndex(this.addressBook.getPersonList());
+        tagIndex = new TagIndex(this.addressBook.getPersonList());
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
     }
 
@@ -87,6 +100,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -98,10 +116,23 @@ public class ModelManager implements Model {
         addressBook.removePerson(target);
     }
 
+    @Override
+    public void deletePersons(Collection<Person> targets) {
+        requireNonNull(targets);
+        addressBook.removePersons(targets);
+    }
+
+    @Override
+    public void setPersons(Map<Person, Person> editedPersons) {
+        requireNonNull(editedPersons);
+        addressBook.replacePersons(editedPersons);
+        showAllPersonsUnlessFilterKept();
+    }
+
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        showAllPersonsUnlessFilterKept();
     }
 
     @Override
@@ -109,6 +140,17 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        showAllPersonsUnlessFilterKept();
+    }
+
+    /**
+     * Shows all persons after persons are added or edited, unless the user prefers to keep the current filter.
+     * A kept filter is not re-applied: the filtered list tests only the added or edited persons against it.
+     */
+    private void showAllPersonsUnlessFilterKept() {
+        if (!userPrefs.isFilterKeptOnChange()) {
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -125,9 +167,50 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        FilterEvent event = new FilterEvent();
+        event.begin();
+        filteredPersonListPredicate = predicate;
+
+        setFilteredPersonListPredicate(predicate);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.predicate = predicate.toString();
+            event.personCount = addressBook.getPersonList().size();
+            event.shownCount = filteredPersons.size();
+            event.commit();
+        }
+    }
+
+    @Override
+    public Predicate<Person> getFilteredPersonListPredicate() {
+        return filteredPersonListPredicate;
+    }
+
+    private void setFilteredPersonListPredicate(Predicate<Person> predicate) {
+        // setting a predicate re-tests every person, which showing all persons again does not need
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS && isShowingAllPersons()) {
+            return;
+        }
+        // name keyword searches are answered from the index of name words, rather than by matching every name
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            List<String> keywords = ((NameContainsKeywordsPredicate) predicate).getKeywords();
+            filteredPersons.setPredicate(nameTokenIndex.containsAnyWord(keywords));
+            return;
+        }
+        // tag queries are answered from the bitmaps of the tags involved, rather than from every person's tags
+        if (predicate instanceof TagsMatchPredicate) {
+            filteredPersons.setPredicate(tagIndex.matching((TagsMatchPredicate) predicate));
+            return;
+        }
         filteredPersons.setPredicate(predicate);
     }
 
+    private boolean isShowingAllPersons() {
+        Predicate<? super Person> currentPredicate = filteredPersons.getPredicate();
+        return currentPredicate == null || currentPredicate == PREDICATE_SHOW_ALL_PERSONS;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,138 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+/**
+ * An inverted index from the lower-cased words of persons' names to the persons whose names contain them.
+ * The index keeps itself up to date by listening to the list of persons it was built from.
+ *
+ * Persons are kept by identity rather than by equality, as every person in the list is a distinct object.
+ *
+ * A keyword search is answered by the union of the posting lists of its keywords, which is built once per search, so
+ * that matching a person only takes a single lookup in that union. The union of the last search is kept up to date
+ * with later changes to the persons, like the posting lists.
+ */
+class NameTokenIndex implements ListChangeListener<Person> {
+
+    /** Splits names into words the same way as {@link seedu.address.commons.util.StringUtil#containsWordIgnoreCase}. */
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("\\s+");
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+    /** The last search, whose matches are updated along with the posting lists. */
+    private KeywordMatch lastMatch;
+
+    /**
+     * Creates an index of {@code persons} that is updated whenever {@code persons} changes.
+     * For the index to be up to date when other listeners of {@code persons} are notified, it should be created
+     * before those listeners are added.
+     */
+    NameTokenIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+        persons.addListener(this);
+    }
+
+    @Override
+    public void onChanged(Change<? extends Person> change) {
+        while (change.next()) {
+            // permutations and updates leave the persons in the list unchanged
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+            if (lastMatch != null) {
+                change.getRemoved().forEach(lastMatch.matches::remove);
+                change.getAddedSubList().forEach(lastMatch::addIfMatching);
+            }
+        }
+    }
+
+    /**
+     * Returns a predicate that is true for persons whose names contain any of {@code keywords} as a whole word,
+     * ignoring case. The persons matched are collected from the posting lists of the keywords up front. They are
+     * kept up to date with later changes to the indexed persons until this method is called again.
+     */
+    Predicate<Person> containsAnyWord(List<String> keywords) {
+        Set<String> tokens = keywords.stream()
+                .map(NameTokenIndex::toToken)
+                .collect(Collectors.toSet());
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String token : tokens) {
+            matches.addAll(postings.getOrDefault(token, Collections.emptySet()));
+        }
+        lastMatch = new KeywordMatch(tokens, matches);
+        return lastMatch;
+    }
+
+    /**
+     * Returns the number of distinct words in the indexed names.
+     */
+    int getTokenCount() {
+        return postings.size();
+    }
+
+    private void add(Person person) {
+        for (String word : WORD_SEPARATOR.split(person.getName().fullName)) {
+            postings.computeIfAbsent(toToken(word), unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(person);
+        }
+    }
+
+    private void remove(Person person) {
+        for (String word : WORD_SEPARATOR.split(person.getName().fullName)) {
+            String token = toToken(word);
+            Set<Person> posting = postings.get(token);
+            if (posting != null && posting.remove(person) && posting.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    private static String toToken(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Matches the persons whose names contain any of a set of words, ignoring case.
+     */
+    private static class KeywordMatch implements Predicate<Person> {
+        private final Set<String> tokens;
+        private final Set<Person> matches;
+
+        KeywordMatch(Set<String> tokens, Set<Person> matches) {
+            this.tokens = tokens;
+            this.matches = matches;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return matches.contains(person);
+        }
+
+        /**
+         * Adds {@code person}, which has just been added to the indexed persons, to the matches if it matches.
+         */
+        void addIfMatching(Person person) {
+            for (String word : WORD_SEPARATOR.split(person.getName().fullName)) {
+                if (tokens.contains(toToken(word))) {
+                    matches.add(person);
+                    return;
+                }
+            }
+        }
+    }
+
+}
@@ -13,4 +13,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns true if the persons shown should stay filtered as they are when persons are added or edited, rather
+     * than all persons being shown again.
+     */
+    boolean isFilterKeptOnChange();
+
 }
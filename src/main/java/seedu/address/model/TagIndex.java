@@ -0,0 +1,150 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagsMatchPredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index from each tag to a bitmap of the persons having it.
+ * The index keeps itself up to date by listening to the list of persons it was built from.
+ *
+ * Each person is given an ordinal, a bit position shared by all the bitmaps, which stays the same while the person is
+ * in the list. The ordinals of removed persons are given to the persons added next, so the bitmaps stay as dense as
+ * the list. Persons are kept by identity rather than by equality, as every person in the list is a distinct object.
+ *
+ * A tag query is answered by a bitmap of the persons matching it, which is combined from the bitmaps of its tags once
+ * per query. The bitmap of the last query is kept up to date with later changes to the persons, like the tag bitmaps.
+ */
+class TagIndex implements ListChangeListener<Person> {
+
+    private final Map<Person, Integer> ordinals = new IdentityHashMap<>();
+    private final BitSet usedOrdinals = new BitSet();
+    /** No ordinal below this one is free, which saves searching the used ordinals from the start on every add. */
+    private int lowestFreeOrdinal;
+    private final Map<Tag, BitSet> bitmaps = new HashMap<>();
+    /** The last query, whose matches are updated along with the tag bitmaps. */
+    private TagMatch lastMatch;
+
+    /**
+     * Creates an index of {@code persons} that is updated whenever {@code persons} changes.
+     * For the index to be up to date when other listeners of {@code persons} are notified, it should be created
+     * before those listeners are added.
+     */
+    TagIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+        persons.addListener(this);
+    }
+
+    @Override
+    public void onChanged(Change<? extends Person> change) {
+        while (change.next()) {
+            // permutations and updates leave the persons in the list unchanged
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that looks persons up in the bitmap of the persons
+     * matching {@code predicate}. The bitmap is combined from the bitmaps of the tags involved up front. It is kept
+     * up to date with later changes to the indexed persons until this method is called again.
+     */
+    Predicate<Person> matching(TagsMatchPredicate predicate) {
+        requireNonNull(predicate);
+        lastMatch = new TagMatch(predicate, findMatches(predicate));
+        return lastMatch;
+    }
+
+    /**
+     * Returns the ordinals of the persons matching {@code predicate}.
+     */
+    BitSet findMatches(TagsMatchPredicate predicate) {
+        BitSet matches = (BitSet) usedOrdinals.clone();
+        for (Set<Tag> group : predicate.getRequiredTagGroups()) {
+            BitSet groupMatches = new BitSet();
+            group.forEach(tag -> groupMatches.or(getBitmap(tag)));
+            matches.and(groupMatches);
+        }
+        predicate.getExcludedTags().forEach(tag -> matches.andNot(getBitmap(tag)));
+        return matches;
+    }
+
+    /**
+     * Returns the number of distinct tags of the indexed persons.
+     */
+    int getTagCount() {
+        return bitmaps.size();
+    }
+
+    private BitSet getBitmap(Tag tag) {
+        return bitmaps.getOrDefault(tag, new BitSet(0));
+    }
+
+    private void add(Person person) {
+        int ordinal = usedOrdinals.nextClearBit(lowestFreeOrdinal);
+        usedOrdinals.set(ordinal);
+        lowestFreeOrdinal = ordinal + 1;
+        ordinals.put(person, ordinal);
+        for (Tag tag : person.getTags()) {
+            bitmaps.computeIfAbsent(tag, unused -> new BitSet()).set(ordinal);
+        }
+        if (lastMatch != null && lastMatch.predicate.test(person)) {
+            lastMatch.matches.set(ordinal);
+        }
+    }
+
+    private void remove(Person person) {
+        Integer ordinal = ordinals.remove(person);
+        if (ordinal == null) {
+            return;
+        }
+        usedOrdinals.clear(ordinal);
+        if (lastMatch != null) {
+            lastMatch.matches.clear(ordinal);
+        }
+        lowestFreeOrdinal = Math.min(lowestFreeOrdinal, ordinal);
+        for (Tag tag : person.getTags()) {
+            BitSet bitmap = bitmaps.get(tag);
+            if (bitmap == null) {
+                continue;
+            }
+            bitmap.clear(ordinal);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Matches the persons whose tags match a tag query, by their ordinals.
+     */
+    private class TagMatch implements Predicate<Person> {
+        private final TagsMatchPredicate predicate;
+        private final BitSet matches;
+
+        TagMatch(TagsMatchPredicate predicate, BitSet matches) {
+            this.predicate = predicate;
+            this.matches = matches;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            Integer ordinal = ordinals.get(person);
+            // persons outside the list are not in any bitmap
+            return ordinal == null ? predicate.test(person) : matches.get(ordinal);
+        }
+    }
+
+}
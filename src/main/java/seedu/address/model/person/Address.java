@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isLineTerminator;
+import static seedu.address.commons.util.ValidationUtil.isWhitespace;
 
 /**
  * Represents a Person's address in the address book.
@@ -34,7 +36,16 @@ public class Address {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // scans for VALIDATION_REGEX, which is too simple to be worth the overhead of a regex match
+        if (test.isEmpty() || isWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAlphanumeric;
 
 /**
  * Represents a Person's email in the address book.
@@ -10,6 +11,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 public class Email {
 
     private static final String SPECIAL_CHARACTERS = "+_.-";
+    private static final String DOMAIN_LABEL_SEPARATORS = "-";
     public static final String MESSAGE_CONSTRAINTS = "Emails should be of the format local-part@domain "
             + "and adhere to the following constraints:\n"
             + "1. The local-part should only contain alphanumeric characters and these special characters, excluding "
@@ -48,7 +50,67 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // scans for VALIDATION_REGEX, as matching the regex backtracks heavily over the repeated domain parts
+        int atIndex = test.indexOf('@');
+        if (atIndex < 0 || !isValidLocalPart(test, 0, atIndex)) {
+            return false;
+        }
+
+        int labelStart = atIndex + 1;
+        for (int i = labelStart; i <= test.length(); i++) {
+            if (i == test.length() || test.charAt(i) == '.') {
+                if (!isValidDomainLabel(test, labelStart, i, i == test.length())) {
+                    return false;
+                }
+                labelStart = i + 1;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test[start, end)} is made up of alphanumeric characters, separated by single special
+     * characters, as {@link #LOCAL_PART_REGEX}.
+     */
+    private static boolean isValidLocalPart(String test, int start, int end) {
+        return isAlphanumericSeparatedBy(test, start, end, SPECIAL_CHARACTERS);
+    }
+
+    /**
+     * Returns true if {@code test[start, end)} is made up of alphanumeric characters, separated by single hyphens,
+     * as {@link #DOMAIN_PART_REGEX}. The last label must also be at least 2 characters long, as
+     * {@link #DOMAIN_LAST_PART_REGEX}, which only needs two adjacent alphanumeric characters to match.
+     */
+    private static boolean isValidDomainLabel(String test, int start, int end, boolean isLastLabel) {
+        if (!isAlphanumericSeparatedBy(test, start, end, DOMAIN_LABEL_SEPARATORS)) {
+            return false;
+        }
+        if (!isLastLabel) {
+            return true;
+        }
+        for (int i = start + 1; i < end; i++) {
+            if (isAlphanumeric(test.charAt(i - 1)) && isAlphanumeric(test.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code test[start, end)} is not empty, and is made up of alphanumeric characters, separated by
+     * single characters from {@code separators}.
+     */
+    private static boolean isAlphanumericSeparatedBy(String test, int start, int end, String separators) {
+        if (start >= end || !isAlphanumeric(test.charAt(start)) || !isAlphanumeric(test.charAt(end - 1))) {
+            return false;
+        }
+        for (int i = start + 1; i < end - 1; i++) {
+            char c = test.charAt(i);
+            if (!isAlphanumeric(c) && (separators.indexOf(c) < 0 || !isAlphanumeric(test.charAt(i - 1)))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Person}'s tags include at least one tag of every required group, and none of the excluded tags.
+ * With no required groups, every person without the excluded tags matches.
+ */
+public class TagsMatchPredicate implements Predicate<Person> {
+    private final List<Set<Tag>> requiredTagGroups;
+    private final Set<Tag> excludedTags;
+
+    /**
+     * Creates a {@code TagsMatchPredicate} from groups of alternative tags, of which a person must have one tag in
+     * each, and from tags that a person must not have.
+     */
+    public TagsMatchPredicate(List<Set<Tag>> requiredTagGroups, Set<Tag> excludedTags) {
+        requireAllNonNull(requiredTagGroups, excludedTags);
+        this.requiredTagGroups = requiredTagGroups.stream().map(HashSet::new).collect(Collectors.toList());
+        this.excludedTags = new HashSet<>(excludedTags);
+    }
+
+    public List<Set<Tag>> getRequiredTagGroups() {
+        return new ArrayList<>(requiredTagGroups);
+    }
+
+    public Set<Tag> getExcludedTags() {
+        return new HashSet<>(excludedTags);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        Set<Tag> tags = person.getTags();
+        return requiredTagGroups.stream().allMatch(group -> group.stream().anyMatch(tags::contains))
+                && excludedTags.stream().noneMatch(tags::contains);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TagsMatchPredicate)) {
+            return false;
+        }
+
+        TagsMatchPredicate otherTagsMatchPredicate = (TagsMatchPredicate) other;
+        return requiredTagGroups.equals(otherTagsMatchPredicate.requiredTagGroups)
+                && excludedTags.equals(otherTagsMatchPredicate.excludedTags);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("requiredTagGroups", requiredTagGroups)
+                .add("excludedTags", excludedTags)
+                .toString();
+    }
+}
@@ -3,8 +3,16 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +27,8 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * A name-keyed index of list positions is kept alongside the backing list so that identity checks and lookups of the
+ * person to update or remove take expected constant time.
  *
  * @see Person#isSamePerson(Person)
  */
@@ -28,12 +38,15 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Position of each person in {@code internalList}, keyed by the name that defines the person's identity. */
+    private Map<Name, Integer> nameIndex = new HashMap<>();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameIndex.containsKey(toCheck.getName());
     }
 
     /**
@@ -45,6 +58,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        nameIndex.put(toAdd.getName(), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -56,7 +70,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -66,6 +80,8 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        nameIndex.remove(target.getName());
+        nameIndex.put(editedPerson.getName(), index);
     }
 
     /**
@@ -74,27 +90,122 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        internalList.remove(index);
+        nameIndex.remove(toRemove.getName());
+        reindexFrom(index);
+    }
+
+    /**
+     * Removes the equivalent persons of {@code toRemove} from the list.
+     * The remaining persons are collected in a single pass and published with a single change to the backing list.
+     * Every person in {@code toRemove} must exist in the list; if any does not, the list is left unchanged.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        // ObservableList#removeAll removes the persons one at a time, shifting the rest of the list each time
+        BitSet removedIndexes = new BitSet(internalList.size());
+        for (Person person : toRemove) {
+            int index = indexOf(person);
+            if (index == -1) {
+                throw new PersonNotFoundException();
+            }
+            removedIndexes.set(index);
+        }
+        if (removedIndexes.isEmpty()) {
+            return;
+        }
+
+        List<Person> remainingPersons = new ArrayList<>(internalList.size() - removedIndexes.cardinality());
+        for (int i = 0; i < internalList.size(); i++) {
+            Person person = internalList.get(i);
+            if (removedIndexes.get(i)) {
+                nameIndex.remove(person.getName());
+            } else {
+                remainingPersons.add(person);
+            }
+        }
+        internalList.setAll(remainingPersons);
+        reindexFrom(removedIndexes.nextSetBit(0));
+    }
+
+    /**
+     * Replaces every person in the list that is a key of {@code replacements} with the person it maps to, keeping
+     * the positions of all persons. The replaced list is built in a single pass and published with a single change
+     * to the backing list.
+     * Every key must exist in the list, and the persons after the replacement must be unique; if either does not
+     * hold, the list is left unchanged.
+     *
+     * @throws DuplicatePersonException naming every identity that would occur more than once after the replacement.
+     */
+    public void replaceAll(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+        Map<Person, Integer> replacedIndexes = new HashMap<>();
+        for (Map.Entry<Person, Person> replacement : replacements.entrySet()) {
+            requireAllNonNull(replacement.getKey(), replacement.getValue());
+            int index = indexOf(replacement.getKey());
+            if (index == -1) {
+                throw new PersonNotFoundException();
+            }
+            replacedIndexes.put(replacement.getKey(), index);
+        }
+        if (replacements.isEmpty()) {
+            return;
+        }
+
+        // only the names of the replacing persons can clash, with each other or with the persons left as they are
+        Set<Name> replacedNames = new HashSet<>();
+        replacements.keySet().forEach(target -> replacedNames.add(target.getName()));
+        Set<Name> replacingNames = new HashSet<>();
+        Set<Name> duplicateNames = new LinkedHashSet<>();
+        for (Person replacingPerson : replacements.values()) {
+            Name name = replacingPerson.getName();
+            boolean isKeptName = nameIndex.containsKey(name) && !replacedNames.contains(name);
+            if (!replacingNames.add(name) || isKeptName) {
+                duplicateNames.add(name);
+            }
+        }
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicatePersonException(duplicateNames);
+        }
+
+        List<Person> replacedPersons = new ArrayList<>(internalList);
+        replacedNames.forEach(nameIndex::remove);
+        for (Map.Entry<Person, Person> replacement : replacements.entrySet()) {
+            int index = replacedIndexes.get(replacement.getKey());
+            replacedPersons.set(index, replacement.getValue());
+            nameIndex.put(replacement.getValue().getName(), index);
+        }
+        internalList.setAll(replacedPersons);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        nameIndex = new HashMap<>(replacement.nameIndex);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * Uniqueness is checked while the replacement name index is built, so the whole replacement takes a single pass
+     * over {@code persons} and a single change notification on the backing list.
+     *
+     * @throws DuplicatePersonException naming every identity that occurs more than once in {@code persons}.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<Name, Integer> replacementIndex = buildNameIndex(persons);
 
         internalList.setAll(persons);
+        nameIndex = replacementIndex;
     }
 
     /**
@@ -106,7 +217,8 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        // iterating over the unmodifiable view stops Iterator#remove from bypassing the name index
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -135,16 +247,45 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of {@code target} in {@code internalList}, or -1 if no person in the list is equal to it.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private int indexOf(Person target) {
+        Integer index = nameIndex.get(target.getName());
+        if (index == null || !internalList.get(index).equals(target)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Records the current positions of all persons from {@code startIndex} onwards in the name index.
+     */
+    private void reindexFrom(int startIndex) {
+        for (int i = startIndex; i < internalList.size(); i++) {
+            nameIndex.put(internalList.get(i).getName(), i);
+        }
+    }
+
+    /**
+     * Returns a name index of {@code persons} by their positions in {@code persons}.
+     *
+     * @throws DuplicatePersonException if {@code persons} does not contain only unique persons.
+     */
+    private static Map<Name, Integer> buildNameIndex(List<Person> persons) {
+        // sized so that the map is never rehashed while it is being filled
+        Map<Name, Integer> index = new HashMap<>(Math.max(16, (int) (persons.size() / 0.75f) + 1));
+        Set<Name> duplicateNames = new LinkedHashSet<>();
+        int position = 0;
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getName(), position) != null) {
+                duplicateNames.add(person.getName());
             }
+            position++;
+        }
+
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicatePersonException(duplicateNames);
         }
-        return true;
+        return index;
     }
 }
@@ -0,0 +1,212 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates any number of valid, distinct persons, for trying out and measuring the app with realistic amounts of
+ * data where {@link SampleDataUtil} only has a handful of persons.
+ *
+ * Each person is numbered by its position, and is generated from the seed and its position alone. So the same seed
+ * always gives the same persons, however many of them are generated and in whatever order. Names, streets and tags
+ * follow Zipf-like distributions, in which a few values are very common and most are rare, as in a real address book.
+ * Every name ends with the position of its person, which keeps the names distinct.
+ *
+ * Persons are generated only as they are needed, so that millions of them can be streamed into an address book or a
+ * data file without ever being held in a list.
+ */
+public class PersonGenerator {
+
+    public static final long DEFAULT_SEED = 0;
+
+    public static final String MESSAGE_NEGATIVE_ARGUMENT = "Positions and counts of persons cannot be negative";
+
+    private static final String[] FIRST_NAMES = {
+        "Wei", "Alex", "Mei", "David", "Siti", "Jun", "Priya", "Daniel", "Hui", "Ahmad", "Bernice", "Ravi", "Charlotte",
+        "Kai", "Nur", "Irfan", "Grace", "Ming", "Aisha", "Roy", "Sarah", "Arjun", "Jia", "Ethan", "Farah", "Kumar",
+        "Chloe", "Zhi", "Hafiz", "Olivia"
+    };
+    private static final String[] LAST_NAMES = {
+        "Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Chan", "Koh", "Teo", "Ang", "Yeoh", "Tay", "Ho",
+        "Low", "Toh", "Sim", "Chong", "Abdullah", "Ibrahim", "Rahman", "Kumar", "Pillai", "Nair", "Yu", "Li",
+        "Oliveiro", "Balakrishnan", "Fernandez"
+    };
+    private static final String[] STREETS = {
+        "Ang Mo Kio Avenue 3", "Tampines Street 20", "Jurong West Street 42", "Bedok North Road", "Woodlands Drive 14",
+        "Yishun Ring Road", "Geylang Street 29", "Toa Payoh Lorong 1", "Serangoon Gardens Street 26",
+        "Clementi Avenue 2", "Pasir Ris Drive 6", "Aljunied Street 85", "Bukit Batok West Avenue 8", "Sengkang East Way"
+    };
+    private static final String[] DOMAINS = {"gmail.com", "example.com", "u.nus.edu", "hotmail.com", "yahoo.com.sg"};
+    private static final String[] TAGS = {
+        "friends", "colleagues", "family", "classmates", "neighbours", "owesMoney", "gym", "church", "cca", "client",
+        "vendor", "alumni"
+    };
+    private static final String[] PHONE_PREFIXES = {"9", "8", "6"};
+
+    private static final Distribution FIRST_NAME_DISTRIBUTION = Distribution.zipf(FIRST_NAMES.length);
+    private static final Distribution LAST_NAME_DISTRIBUTION = Distribution.zipf(LAST_NAMES.length);
+    private static final Distribution STREET_DISTRIBUTION = Distribution.zipf(STREETS.length);
+    private static final Distribution DOMAIN_DISTRIBUTION = Distribution.zipf(DOMAINS.length);
+    private static final Distribution TAG_DISTRIBUTION = Distribution.zipf(TAGS.length);
+    private static final Distribution PHONE_PREFIX_DISTRIBUTION = new Distribution(55, 35, 10);
+    /** Weights of having no tags, one tag, two tags and three tags. */
+    private static final Distribution TAG_COUNT_DISTRIBUTION = new Distribution(40, 35, 18, 7);
+
+    /**
+     * The number that ends a name, as it ends the name of every generated person. Longer numbers are never reached by
+     * counting on from a position, so they cannot end the name of a generated person.
+     */
+    private static final Pattern NAME_POSITION_PATTERN = Pattern.compile(" (\\d{1,18})$");
+
+    /** Spreads the seeds of consecutive positions apart, as consecutive seeds give similar random numbers. */
+    private static final long POSITION_SEED_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+
+    /**
+     * Creates a {@code PersonGenerator} that generates persons from {@code seed}.
+     */
+    public PersonGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the person at {@code position}.
+     */
+    public Person generatePerson(long position) {
+        checkArgument(position >= 0, MESSAGE_NEGATIVE_ARGUMENT);
+        SplittableRandom random = new SplittableRandom(seed ^ (position * POSITION_SEED_MULTIPLIER));
+
+        String firstName = FIRST_NAME_DISTRIBUTION.sample(FIRST_NAMES, random);
+        String lastName = LAST_NAME_DISTRIBUTION.sample(LAST_NAMES, random);
+        Name name = new Name(firstName + " " + lastName + " " + position);
+        Phone phone = new Phone(PHONE_PREFIX_DISTRIBUTION.sample(PHONE_PREFIXES, random)
+                + String.format("%07d", random.nextInt(10_000_000)));
+        Email email = new Email(firstName.toLowerCase() + "." + lastName.toLowerCase() + position + "@"
+                + DOMAIN_DISTRIBUTION.sample(DOMAINS, random));
+        Address address = new Address(String.format("Blk %d %s, #%02d-%02d", random.nextInt(1, 1000),
+                STREET_DISTRIBUTION.sample(STREETS, random), random.nextInt(1, 40), random.nextInt(1, 200)));
+
+        Set<Tag> tags = new HashSet<>();
+        for (int i = TAG_COUNT_DISTRIBUTION.sampleIndex(random); i > 0; i--) {
+            // a tag drawn twice is only kept once, so common tags cost a person a tag now and then
+            tags.add(new Tag(TAG_DISTRIBUTION.sample(TAGS, random)));
+        }
+        return new Person(name, phone, email, address, tags);
+    }
+
+    /**
+     * Returns a stream of the {@code count} persons from {@code fromPosition} onwards, in order of position.
+     * Each person is only generated when the stream gets to it.
+     */
+    public Stream<Person> generatePersons(long fromPosition, long count) {
+        checkArgument(fromPosition >= 0 && count >= 0, MESSAGE_NEGATIVE_ARGUMENT);
+        return LongStream.range(fromPosition, fromPosition + count).mapToObj(this::generatePerson);
+    }
+
+    /**
+     * Adds the {@code count} persons from {@code fromPosition} onwards to {@code addressBook}, one at a time.
+     * A person with the same identity as a person already in {@code addressBook} is skipped.
+     *
+     * @return the number of persons added.
+     */
+    public int addPersons(AddressBook addressBook, long fromPosition, int count) {
+        requireNonNull(addressBook);
+        checkArgument(fromPosition >= 0 && count >= 0, MESSAGE_NEGATIVE_ARGUMENT);
+        int addedCount = 0;
+        for (long position = fromPosition; position < fromPosition + count; position++) {
+            Person person = generatePerson(position);
+            if (!addressBook.hasPerson(person)) {
+                addressBook.addPerson(person);
+                addedCount++;
+            }
+        }
+        return addedCount;
+    }
+
+    /**
+     * Returns the position after the highest number that ends the name of a person in {@code addressBook}, or 0 if
+     * no name ends with a number. None of the persons from that position onwards has the same name as a person in
+     * {@code addressBook}, even after persons were deleted from it.
+     */
+    public static long getNextPosition(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        long nextPosition = 0;
+        for (Person person : addressBook.getPersonList()) {
+            Matcher matcher = NAME_POSITION_PATTERN.matcher(person.getName().fullName);
+            if (matcher.find()) {
+                nextPosition = Math.max(nextPosition, Long.parseLong(matcher.group(1)) + 1);
+            }
+        }
+        return nextPosition;
+    }
+
+    /**
+     * Returns an address book of the first {@code count} persons generated from {@link #DEFAULT_SEED}.
+     */
+    public static AddressBook generateAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        new PersonGenerator(DEFAULT_SEED).addPersons(addressBook, 0, count);
+        return addressBook;
+    }
+
+    /**
+     * A discrete probability distribution over the indexes of an array of values.
+     */
+    private static class Distribution {
+        /** The sum of the weights of each index and the indexes before it. */
+        private final double[] cumulativeWeights;
+
+        Distribution(double... weights) {
+            cumulativeWeights = new double[weights.length];
+            double totalWeight = 0;
+            for (int i = 0; i < weights.length; i++) {
+                totalWeight += weights[i];
+                cumulativeWeights[i] = totalWeight;
+            }
+        }
+
+        /**
+         * Returns a distribution over {@code size} indexes in which the likelihood of each index is inversely
+         * proportional to its rank, so that the first index is twice as likely as the second, three times as likely as
+         * the third, and so on.
+         */
+        static Distribution zipf(int size) {
+            double[] weights = new double[size];
+            for (int i = 0; i < size; i++) {
+                weights[i] = 1.0 / (i + 1);
+            }
+            return new Distribution(weights);
+        }
+
+        int sampleIndex(SplittableRandom random) {
+            double point = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+            int searchResult = Arrays.binarySearch(cumulativeWeights, point);
+            // the sampled index is the first one whose cumulative weight exceeds the point
+            return searchResult >= 0 ? searchResult + 1 : -searchResult - 1;
+        }
+
+        <T> T sample(T[] values, SplittableRandom random) {
+            return values[sampleIndex(random)];
+        }
+    }
+
+}
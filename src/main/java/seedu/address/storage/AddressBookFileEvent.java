@@ -0,0 +1,36 @@
+package seedu.address.storage;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for reading or saving an address book data file.
+ */
+@Name("seedu.address.AddressBookFile")
+@Label("Address Book File")
+@Category({"AddressBook", "Storage"})
+@Description("An address book data file read or saved")
+class AddressBookFileEvent extends Event {
+
+    static final String OPERATION_READ = "read";
+    static final String OPERATION_SAVE = "save";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Path")
+    String path;
+
+    @Label("Person Count")
+    int personCount;
+
+    @Label("Size")
+    @Description("Size of the file after it was read or saved")
+    @DataAmount
+    long bytes;
+
+}
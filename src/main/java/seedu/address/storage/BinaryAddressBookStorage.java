@@ -0,0 +1,338 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ *
+ * The file starts with a magic number and a format version, followed by a string table holding every distinct tag
+ * name and address fragment once, then the persons as length-prefixed records that refer to the string table, and
+ * ends with a checksum of everything after the format version. Fields are validated again when they are read back,
+ * as for any other data file, but each tag name is only validated once however many persons share it.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_FORMAT = "Data file is not in the binary address book format!";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data file format version %d is not supported!";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Data file is corrupted, as its checksum does not match!";
+    public static final String MESSAGE_MALFORMED_DATA = "Data file is corrupted, as its contents are malformed!";
+    public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+
+    /** "ABKB" in ASCII. */
+    private static final int MAGIC_NUMBER = 0x41424B42;
+    private static final int HEADER_LENGTH = Integer.BYTES * 2;
+    private static final int CHECKSUM_LENGTH = Long.BYTES;
+
+    private static final String ADDRESS_FRAGMENT_SEPARATOR = ", ";
+    private static final Pattern ADDRESS_FRAGMENT_SEPARATOR_PATTERN = Pattern.compile(ADDRESS_FRAGMENT_SEPARATOR);
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(decode(ByteBuffer.wrap(Files.readAllBytes(filePath))));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.replaceFileAtomically(filePath, outputStream -> encode(addressBook, outputStream));
+    }
+
+    /**
+     * Converts the JSON data file at {@code jsonFilePath} into the binary data file of this storage.
+     * Any journal kept next to the JSON data file by {@link JournaledAddressBookStorage} is applied too.
+     *
+     * @return false if there is no JSON data file to convert.
+     * @throws DataLoadingException if the JSON data file could not be loaded.
+     * @throws IOException if the binary data file could not be written.
+     */
+    public boolean importFromJson(Path jsonFilePath) throws DataLoadingException, IOException {
+        Optional<ReadOnlyAddressBook> addressBook = new JournaledAddressBookStorage(
+                new JsonAddressBookStorage(jsonFilePath)).readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        saveAddressBook(addressBook.get());
+        return true;
+    }
+
+    /**
+     * Converts the binary data file of this storage into a JSON data file at {@code jsonFilePath}.
+     *
+     * @return false if there is no binary data file to convert.
+     * @throws DataLoadingException if the binary data file could not be loaded.
+     * @throws IOException if the JSON data file could not be written.
+     */
+    public boolean exportToJson(Path jsonFilePath) throws DataLoadingException, IOException {
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(addressBook.get());
+        return true;
+    }
+
+    // ================ Encoding ==============================
+
+    private static void encode(ReadOnlyAddressBook addressBook, OutputStream outputStream) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> stringTable = buildStringTable(persons);
+
+        DataOutputStream header = new DataOutputStream(outputStream);
+        header.writeInt(MAGIC_NUMBER);
+        header.writeInt(FORMAT_VERSION);
+        header.flush();
+
+        CRC32 checksum = new CRC32();
+        DataOutputStream body = new DataOutputStream(new CheckedOutputStream(outputStream, checksum));
+        body.writeInt(stringTable.size());
+        for (String string : stringTable.keySet()) {
+            writeString(body, string);
+        }
+
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        body.writeInt(persons.size());
+        for (Person person : persons) {
+            recordBytes.reset();
+            writePerson(record, person, stringTable);
+            body.writeInt(recordBytes.size());
+            recordBytes.writeTo(body);
+        }
+        body.flush();
+
+        header.writeLong(checksum.getValue());
+        header.flush();
+    }
+
+    /**
+     * Returns the distinct tag names and address fragments of {@code persons}, each mapped to its index in the table.
+     */
+    private static Map<String, Integer> buildStringTable(List<Person> persons) {
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (String fragment : splitAddress(person.getAddress())) {
+                stringTable.putIfAbsent(fragment, stringTable.size());
+            }
+            for (Tag tag : person.getTags()) {
+                stringTable.putIfAbsent(tag.tagName, stringTable.size());
+            }
+        }
+        return stringTable;
+    }
+
+    private static void writePerson(DataOutputStream record, Person person, Map<String, Integer> stringTable)
+            throws IOException {
+        writeString(record, person.getName().fullName);
+        writeString(record, person.getPhone().value);
+        writeString(record, person.getEmail().value);
+
+        String[] addressFragments = splitAddress(person.getAddress());
+        record.writeInt(addressFragments.length);
+        for (String fragment : addressFragments) {
+            record.writeInt(stringTable.get(fragment));
+        }
+
+        record.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            record.writeInt(stringTable.get(tag.tagName));
+        }
+    }
+
+    private static String[] splitAddress(Address address) {
+        return ADDRESS_FRAGMENT_SEPARATOR_PATTERN.split(address.value, -1);
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // ================ Decoding ==============================
+
+    private static AddressBook decode(ByteBuffer buffer) throws IllegalValueException {
+        try {
+            if (buffer.remaining() < HEADER_LENGTH + CHECKSUM_LENGTH || buffer.getInt() != MAGIC_NUMBER) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_FORMAT);
+            }
+            int formatVersion = buffer.getInt();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, formatVersion));
+            }
+
+            int checksumPosition = buffer.limit() - CHECKSUM_LENGTH;
+            CRC32 checksum = new CRC32();
+            checksum.update(buffer.array(), HEADER_LENGTH, checksumPosition - HEADER_LENGTH);
+            if (checksum.getValue() != buffer.getLong(checksumPosition)) {
+                throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+            }
+            buffer.limit(checksumPosition);
+
+            String[] stringTable = new String[readCount(buffer)];
+            for (int i = 0; i < stringTable.length; i++) {
+                stringTable[i] = readString(buffer);
+            }
+
+            // persons tend to share tags, so each tag is only created once
+            Tag[] tags = new Tag[stringTable.length];
+            int personCount = readCount(buffer);
+            List<Person> persons = new ArrayList<>(personCount);
+            for (int i = 0; i < personCount; i++) {
+                int recordLength = readCount(buffer);
+                int nextRecordPosition = buffer.position() + recordLength;
+                persons.add(readPerson(buffer, stringTable, tags));
+                if (buffer.position() > nextRecordPosition) {
+                    throw new IllegalValueException(MESSAGE_MALFORMED_DATA);
+                }
+                // skips any fields appended to the record by a later revision of this format version
+                buffer.position(nextRecordPosition);
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            return addressBook;
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON, e);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_MALFORMED_DATA, e);
+        }
+    }
+
+    /**
+     * Reads a person, creating each tag from the string table only the first time it is used.
+     *
+     * @throws IllegalArgumentException if any field of the person is invalid.
+     */
+    private static Person readPerson(ByteBuffer buffer, String[] stringTable, Tag[] tags) {
+        Name name = new Name(readString(buffer));
+        Phone phone = new Phone(readString(buffer));
+        Email email = new Email(readString(buffer));
+
+        int fragmentCount = readCount(buffer);
+        StringBuilder address = new StringBuilder();
+        for (int i = 0; i < fragmentCount; i++) {
+            if (i > 0) {
+                address.append(ADDRESS_FRAGMENT_SEPARATOR);
+            }
+            address.append(stringTable[buffer.getInt()]);
+        }
+
+        int tagCount = readCount(buffer);
+        Set<Tag> personTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            int index = buffer.getInt();
+            if (tags[index] == null) {
+                tags[index] = new Tag(stringTable[index]);
+            }
+            personTags.add(tags[index]);
+        }
+
+        return new Person(name, phone, email, new Address(address.toString()), personTags);
+    }
+
+    /**
+     * Reads a count or length, which cannot exceed the number of bytes left, as every item takes at least a byte.
+     */
+    private static int readCount(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid count " + count);
+        }
+        return count;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = readCount(buffer);
+        String string = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return string;
+    }
+
+}
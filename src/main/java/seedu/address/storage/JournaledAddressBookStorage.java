@@ -0,0 +1,298 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file, together with an append-only journal of the
+ * changes made since the snapshot was written.
+ * Saving appends only the changes made since the previous save to the journal, so its cost depends on the size of the
+ * change rather than the size of the address book. Once the journal would grow past the compaction threshold, a fresh
+ * snapshot is written instead and the journal is started afresh. Reading replays the journal on top of the snapshot.
+ *
+ * Changes are picked up by listening to the person list of the address book that was last saved. Saving any other
+ * address book writes a fresh snapshot.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final JsonAddressBookStorage snapshotStorage;
+    private final Path journalFilePath;
+    private final int compactionThreshold;
+
+    /** Changes to {@code trackedAddressBook} that have not been written to the journal yet. */
+    private final List<JsonJournalEntry> pendingEntries = new ArrayList<>();
+    private final ListChangeListener<Person> changeRecorder = this::recordChanges;
+
+    private ReadOnlyAddressBook trackedAddressBook;
+    private int journalEntryCount;
+    /** Set when the pending changes cannot be journaled, so that the next save writes a fresh snapshot instead. */
+    private boolean isCompactionNeeded;
+
+    public JournaledAddressBookStorage(JsonAddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that writes its snapshots through {@code snapshotStorage}.
+     *
+     * @param compactionThreshold the number of changes the journal may hold before it is compacted into a snapshot.
+     */
+    public JournaledAddressBookStorage(JsonAddressBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+        Path snapshotFilePath = snapshotStorage.getAddressBookFilePath();
+        journalFilePath = snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The journal is only replayed when reading from the snapshot file of this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!snapshot.isPresent() || !filePath.equals(getAddressBookFilePath())) {
+            return snapshot;
+        }
+
+        AddressBook addressBook = new AddressBook(snapshot.get());
+        replayJournal(addressBook);
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Applies the changes recorded in the journal to {@code addressBook}, which holds the contents of the snapshot.
+     * A journal that was started for a different snapshot is left over from an interrupted compaction and is ignored.
+     * An unreadable last entry is left over from an interrupted save and is ignored too.
+     */
+    private void replayJournal(AddressBook addressBook) throws DataLoadingException {
+        if (!Files.exists(journalFilePath)) {
+            return;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null || !readEntry(header).isSnapshotOf(getSnapshotSize(), getSnapshotLastModified())) {
+                logger.warning("Ignoring journal " + journalFilePath + " as it was not started for the current"
+                        + " snapshot " + getAddressBookFilePath());
+                return;
+            }
+
+            int replayedCount = 0;
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                JsonJournalEntry entry;
+                try {
+                    entry = readEntry(line);
+                } catch (JsonProcessingException e) {
+                    if (nextLine != null) {
+                        throw e;
+                    }
+                    logger.warning("Ignoring incomplete last entry of journal " + journalFilePath);
+                    break;
+                }
+                entry.applyTo(addressBook);
+                replayedCount++;
+                line = nextLine;
+            }
+            logger.info("Replayed " + replayedCount + " journal entries from " + journalFilePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only saves to the snapshot file of this storage are journaled. Saves to any other location write a snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        if (addressBook != trackedAddressBook) {
+            compact(addressBook);
+            track(addressBook);
+            return;
+        }
+
+        if (isCompactionNeeded || journalEntryCount + pendingEntries.size() > compactionThreshold) {
+            compact(addressBook);
+            return;
+        }
+
+        appendPendingEntries();
+    }
+
+    /**
+     * Writes {@code addressBook} as the new snapshot and discards the journal.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Compacting journal " + journalFilePath + " into snapshot " + getAddressBookFilePath());
+        snapshotStorage.saveAddressBook(addressBook, getAddressBookFilePath());
+        Files.deleteIfExists(journalFilePath);
+
+        pendingEntries.clear();
+        journalEntryCount = 0;
+        isCompactionNeeded = false;
+    }
+
+    /**
+     * Appends the pending changes to the journal, starting a new journal for the current snapshot if there is none.
+     */
+    private void appendPendingEntries() throws IOException {
+        if (pendingEntries.isEmpty()) {
+            return;
+        }
+
+        boolean isNewJournal = !Files.exists(journalFilePath);
+        try (BufferedWriter writer = Files.newBufferedWriter(journalFilePath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            if (isNewJournal) {
+                writeEntry(writer, JsonJournalEntry.snapshot(getSnapshotSize(), getSnapshotLastModified()));
+            }
+            for (JsonJournalEntry entry : pendingEntries) {
+                writeEntry(writer, entry);
+            }
+        } catch (IOException e) {
+            // the journal may now end with only some of the pending changes, so it can no longer be appended to
+            isCompactionNeeded = true;
+            throw e;
+        }
+
+        journalEntryCount += pendingEntries.size();
+        pendingEntries.clear();
+    }
+
+    /**
+     * Starts recording the changes made to {@code addressBook}, and stops recording those of any other address book.
+     */
+    private void track(ReadOnlyAddressBook addressBook) {
+        if (trackedAddressBook != null) {
+            trackedAddressBook.getPersonList().removeListener(changeRecorder);
+        }
+        trackedAddressBook = addressBook;
+        trackedAddressBook.getPersonList().addListener(changeRecorder);
+    }
+
+    /**
+     * Records the changes to the person list of the tracked address book as pending journal entries.
+     */
+    private void recordChanges(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (isCompactionNeeded) {
+                // the next save writes a snapshot anyway
+                continue;
+            }
+
+            List<? extends Person> removed = change.getRemoved();
+            List<? extends Person> added = change.getAddedSubList();
+            boolean isEdit = removed.size() == 1 && added.size() == 1;
+            boolean isWholeListReplaced = !isEdit && !removed.isEmpty() && change.getFrom() == 0
+                    && change.getList().size() == added.size();
+            int entryCount = isEdit ? 1 : (isWholeListReplaced ? 1 : removed.size()) + added.size();
+
+            boolean isUnjournalable = change.wasPermutated() || change.wasUpdated();
+            if (isUnjournalable || journalEntryCount + pendingEntries.size() + entryCount > compactionThreshold) {
+                isCompactionNeeded = true;
+                pendingEntries.clear();
+                continue;
+            }
+
+            if (isEdit) {
+                pendingEntries.add(JsonJournalEntry.edit(removed.get(0), added.get(0)));
+                continue;
+            }
+
+            if (isWholeListReplaced) {
+                pendingEntries.add(JsonJournalEntry.clear());
+            } else {
+                removed.forEach(person -> pendingEntries.add(JsonJournalEntry.delete(person)));
+            }
+            added.forEach(person -> pendingEntries.add(JsonJournalEntry.add(person)));
+        }
+    }
+
+    private long getSnapshotSize() throws IOException {
+        return Files.size(getAddressBookFilePath());
+    }
+
+    private long getSnapshotLastModified() throws IOException {
+        return Files.getLastModifiedTime(getAddressBookFilePath()).toMillis();
+    }
+
+    private static JsonJournalEntry readEntry(String line) throws IOException {
+        return JsonUtil.fromJsonString(line, JsonJournalEntry.class);
+    }
+
+    private static void writeEntry(BufferedWriter writer, JsonJournalEntry entry) throws IOException {
+        writer.write(JsonUtil.toCompactJsonString(entry));
+        writer.newLine();
+    }
+
+}
@@ -3,7 +3,10 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -12,7 +15,10 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -21,10 +27,25 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    /** Name of the field that {@link JsonSerializableAddressBook} stores the persons under. */
+    private static final String PERSONS_FIELD_NAME = "persons";
+
     private Path filePath;
+    private final boolean isPrettyPrinted;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the data file at {@code filePath}.
+     *
+     * @param isPrettyPrinted whether saved data files are indented for readability. Turning this off produces
+     *     smaller files that are faster to write.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,18 +66,43 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
+        // Persons are streamed from the file and converted one at a time, so that neither the raw file contents
+        // nor a full list of JsonAdaptedPerson objects need to be held in memory alongside the loaded address book.
+        // The converted persons are then set all at once, which checks them for duplicates and builds the name index
+        // in a single pass.
+        List<Person> persons = new ArrayList<>();
+        AddressBook addressBook;
+        AddressBookFileEvent event = new AddressBookFileEvent();
+        event.begin();
+        boolean isFound;
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            isFound = JsonUtil.readJsonArrayFile(filePath, PERSONS_FIELD_NAME, JsonAdaptedPerson.class,
+                    jsonAdaptedPerson -> persons.add(jsonAdaptedPerson.toModelType()));
+            addressBook = toAddressBook(persons);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+        if (isFound) {
+            commitEvent(event, AddressBookFileEvent.OPERATION_READ, filePath, addressBook.getPersonList().size());
+        }
+
+        return isFound ? Optional.of(addressBook) : Optional.empty();
+    }
+
+    /**
+     * Returns an address book of {@code persons}.
+     *
+     * @throws IllegalValueException if {@code persons} contains duplicate persons.
+     */
+    private static AddressBook toAddressBook(List<Person> persons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, dpe);
+        }
+        return addressBook;
     }
 
     @Override
@@ -73,8 +119,56 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
+        AddressBookFileEvent event = new AddressBookFileEvent();
+        event.begin();
+        FileUtil.createIfMissing(filePath);
+        // Persons are adapted and written out one at a time instead of first copying the whole address book into a
+        // JsonSerializableAddressBook and rendering it into a single String.
+        JsonUtil.saveJsonArrayFile(filePath, PERSONS_FIELD_NAME, addressBook.getPersonList(), JsonAdaptedPerson::new,
+                isPrettyPrinted);
+        commitEvent(event, AddressBookFileEvent.OPERATION_SAVE, filePath, addressBook.getPersonList().size());
+    }
+
+    /**
+     * Ends {@code event} and commits it with the given details, if it is being recorded.
+     * The size of the file is only looked up when the event is recorded.
+     */
+    private static void commitEvent(AddressBookFileEvent event, String operation, Path filePath, int personCount) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.operation = operation;
+        event.path = filePath.toString();
+        event.personCount = personCount;
+        event.bytes = getFileSize(filePath);
+        event.commit();
+    }
+
+    /**
+     * Returns the size of the file at {@code filePath}, or -1 if it cannot be read.
+     */
+    private static long getFileSize(Path filePath) {
+        try {
+            return Files.size(filePath);
+        } catch (IOException ioe) {
+            return -1;
+        }
+    }
+
+    /**
+     * Saves an address book of {@code persons} to {@code filePath}, writing out each person as soon as
+     * {@code persons} produces it, so that an address book too large to be held in memory can still be saved.
+     * The persons must be distinct, as they are not checked for duplicates.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void savePersons(Iterable<Person> persons, Path filePath) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(filePath);
+
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonUtil.saveJsonArrayFile(filePath, PERSONS_FIELD_NAME, persons, JsonAdaptedPerson::new, isPrettyPrinted);
     }
 
 }
@@ -0,0 +1,143 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * Jackson-friendly record of a single entry in the journal kept by {@link JournaledAddressBookStorage}.
+ * Apart from the {@code SNAPSHOT} entry that starts every journal, each entry describes one change to the persons.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry of type %s is missing its %s field!";
+    public static final String MESSAGE_MISSING_TYPE = "Journal entry is missing its type field!";
+    public static final String MESSAGE_INCONSISTENT_ENTRY = "Journal entry of type %s does not match the address book!";
+
+    /**
+     * Represents the kinds of journal entries.
+     */
+    enum Type {
+        /** Identifies the snapshot file that the journal applies to. */
+        SNAPSHOT,
+        ADD,
+        EDIT,
+        DELETE,
+        CLEAR
+    }
+
+    private final Type type;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedPerson editedPerson;
+    private final Long snapshotSize;
+    private final Long snapshotLastModified;
+
+    /**
+     * Constructs a {@code JsonJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonJournalEntry(@JsonProperty("type") Type type, @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("editedPerson") JsonAdaptedPerson editedPerson,
+            @JsonProperty("snapshotSize") Long snapshotSize,
+            @JsonProperty("snapshotLastModified") Long snapshotLastModified) {
+        this.type = type;
+        this.person = person;
+        this.editedPerson = editedPerson;
+        this.snapshotSize = snapshotSize;
+        this.snapshotLastModified = snapshotLastModified;
+    }
+
+    /**
+     * Returns an entry identifying the snapshot file of the given size and last modified time.
+     */
+    public static JsonJournalEntry snapshot(long size, long lastModified) {
+        return new JsonJournalEntry(Type.SNAPSHOT, null, null, size, lastModified);
+    }
+
+    /**
+     * Returns an entry recording that {@code added} was added.
+     */
+    public static JsonJournalEntry add(Person added) {
+        return new JsonJournalEntry(Type.ADD, new JsonAdaptedPerson(added), null, null, null);
+    }
+
+    /**
+     * Returns an entry recording that {@code target} was replaced by {@code editedPerson}.
+     */
+    public static JsonJournalEntry edit(Person target, Person editedPerson) {
+        return new JsonJournalEntry(Type.EDIT, new JsonAdaptedPerson(target), new JsonAdaptedPerson(editedPerson),
+                null, null);
+    }
+
+    /**
+     * Returns an entry recording that {@code removed} was removed.
+     */
+    public static JsonJournalEntry delete(Person removed) {
+        return new JsonJournalEntry(Type.DELETE, new JsonAdaptedPerson(removed), null, null, null);
+    }
+
+    /**
+     * Returns an entry recording that all persons were removed.
+     */
+    public static JsonJournalEntry clear() {
+        return new JsonJournalEntry(Type.CLEAR, null, null, null, null);
+    }
+
+    /**
+     * Returns true if this is the {@code SNAPSHOT} entry for a snapshot file of the given size and last modified time.
+     */
+    public boolean isSnapshotOf(long size, long lastModified) {
+        return type == Type.SNAPSHOT
+                && snapshotSize != null && snapshotSize == size
+                && snapshotLastModified != null && snapshotLastModified == lastModified;
+    }
+
+    /**
+     * Applies the change recorded by this entry to {@code addressBook}.
+     *
+     * @throws IllegalValueException if this entry is malformed, or the change cannot be applied to
+     *     {@code addressBook}.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_TYPE);
+        }
+
+        try {
+            switch (type) {
+            case ADD:
+                addressBook.addPerson(toModelPerson(person, "person"));
+                break;
+            case EDIT:
+                addressBook.setPerson(toModelPerson(person, "person"), toModelPerson(editedPerson, "editedPerson"));
+                break;
+            case DELETE:
+                addressBook.removePerson(toModelPerson(person, "person"));
+                break;
+            case CLEAR:
+                addressBook.resetData(new AddressBook());
+                break;
+            default:
+                throw new IllegalValueException(String.format(MESSAGE_INCONSISTENT_ENTRY, type));
+            }
+        } catch (DuplicatePersonException | PersonNotFoundException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INCONSISTENT_ENTRY, type), e);
+        }
+    }
+
+    private Person toModelPerson(JsonAdaptedPerson jsonAdaptedPerson, String fieldName)
+            throws IllegalValueException {
+        if (jsonAdaptedPerson == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, type, fieldName));
+        }
+        return jsonAdaptedPerson.toModelType();
+    }
+
+}
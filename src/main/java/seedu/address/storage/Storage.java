@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,17 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Sets the handler notified of failures of address book saves that complete after the save method has returned.
+     * The handler may be called from a thread other than the one that saved the address book.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
+    /**
+     * Blocks until every address book save started so far has been written.
+     *
+     * @throws IOException if any of those saves could not be written.
+     */
+    void flush() throws IOException;
+
 }
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -75,4 +76,16 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    /**
+     * Does nothing, as address book saves fail with an exception from the save method itself.
+     */
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {}
+
+    /**
+     * Does nothing, as address book saves are written before the save method returns.
+     */
+    @Override
+    public void flush() {}
+
 }
@@ -0,0 +1,230 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Storage} that writes address books on a single background thread, so that saving does not wait for disk.
+ * Saving hands a snapshot of the persons in the address book to the writer and returns immediately.
+ * Saves made while the writer is busy are coalesced, so that only the latest address book for each file
+ * is written once the writer is free again.
+ * Failed writes are reported to the save failure handler, and are retried by the next save or flush.
+ *
+ * User prefs are read and saved synchronously, as they are only saved when the application starts and stops.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final String WRITER_THREAD_NAME = "address-book-writer";
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, WRITER_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Address books waiting to be written, keyed by the file they are written to. Guarded by {@code this}. */
+    private final LinkedHashMap<Path, ReadOnlyAddressBook> pendingAddressBooks = new LinkedHashMap<>();
+    /** True while a background write is queued or running that will write every pending address book. */
+    private boolean isWriteScheduled;
+
+    private volatile Consumer<IOException> saveFailureHandler = e ->
+            logger.warning("Failed to save address book in the background: " + StringUtil.getDetails(e));
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes through {@code storage}.
+     */
+    public WriteBehindStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link Storage#readAddressBook(Path)}.
+     * Pending saves are written first, so that the data read is the data last saved.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        try {
+            flush();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        saveAddressBook(addressBook, storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link Storage#saveAddressBook(ReadOnlyAddressBook, Path)}.
+     * Only takes a snapshot of the persons in {@code addressBook}, and leaves writing the snapshot to the background
+     * writer.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        ReadOnlyAddressBook snapshot = new PersonListSnapshot(addressBook);
+        synchronized (this) {
+            pendingAddressBooks.put(filePath, snapshot);
+            if (isWriteScheduled) {
+                logger.fine("Coalescing save to data file: " + filePath);
+                return;
+            }
+            isWriteScheduled = true;
+        }
+        writer.execute(this::writeInBackground);
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Blocks until every pending address book has been written, retrying any that previously failed.
+     */
+    @Override
+    public void flush() throws IOException {
+        try {
+            writer.submit(() -> {
+                writePendingAddressBooks();
+                return null;
+            }).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while flushing saves to " + getAddressBookFilePath());
+        }
+    }
+
+    private void writeInBackground() {
+        try {
+            writePendingAddressBooks();
+        } catch (IOException e) {
+            // already reported to the save failure handler
+        }
+    }
+
+    /**
+     * Writes pending address books until there are none left, including those saved while writing.
+     * A pending address book that fails to be written is kept pending, unless it has been saved again since, and the
+     * failure is reported to the save failure handler. Address books saved while the failed write was running are
+     * written by a fresh background write, while the failed one is only retried by the next save or flush, so that a
+     * failing data file is not retried in a loop.
+     */
+    private void writePendingAddressBooks() throws IOException {
+        while (true) {
+            Path filePath;
+            ReadOnlyAddressBook addressBook;
+            synchronized (this) {
+                Iterator<Path> iterator = pendingAddressBooks.keySet().iterator();
+                if (!iterator.hasNext()) {
+                    isWriteScheduled = false;
+                    return;
+                }
+                filePath = iterator.next();
+                addressBook = pendingAddressBooks.remove(filePath);
+            }
+
+            try {
+                logger.fine("Writing data file in the background: " + filePath);
+                storage.saveAddressBook(addressBook, filePath);
+            } catch (IOException e) {
+                boolean isRewriteNeeded;
+                synchronized (this) {
+                    ReadOnlyAddressBook newerAddressBook = pendingAddressBooks.putIfAbsent(filePath, addressBook);
+                    isRewriteNeeded = pendingAddressBooks.size() > (newerAddressBook == null ? 1 : 0);
+                    isWriteScheduled = isRewriteNeeded;
+                }
+                if (isRewriteNeeded) {
+                    writer.execute(this::writeInBackground);
+                }
+                saveFailureHandler.accept(e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * An address book of the persons that another address book held when the snapshot was taken.
+     * Persons are immutable, so only the references to them are copied, without building the name index that a copy
+     * of the {@code AddressBook} would. The persons of an address book are already known to be unique.
+     */
+    private static class PersonListSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+
+        PersonListSnapshot(ReadOnlyAddressBook addressBook) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(List.copyOf(addressBook.getPersonList())));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+    }
+
+}
@@ -1,22 +1,27 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Commands are executed in the background, so further commands can be entered while earlier ones are in flight.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String IN_FLIGHT_STYLE_CLASS = "in-flight";
+    public static final String IN_FLIGHT_PROMPT_TEXT = "Running command...";
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final String defaultPromptText;
+    private int inFlightCount;
 
     @FXML
     private TextField commandTextField;
@@ -27,6 +32,7 @@ public class CommandBox extends UiPart<Region> {
     public CommandBox(CommandExecutor commandExecutor) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        defaultPromptText = commandTextField.getPromptText();
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
     }
@@ -41,11 +47,34 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
+        commandTextField.setText("");
+        setInFlightCount(inFlightCount + 1);
+        commandExecutor.execute(commandText).whenComplete((unused, error) -> {
+            setInFlightCount(inFlightCount - 1);
+            if (error == null) {
+                return;
+            }
+            // gives the failed command back for correction, unless another command is being typed
+            if (commandTextField.getText().isEmpty()) {
+                commandTextField.setText(commandText);
+            }
             setStyleToIndicateCommandFailure();
+        });
+    }
+
+    /**
+     * Sets the number of commands that have been entered but whose results have not arrived,
+     * and shows whether there are any such commands.
+     */
+    private void setInFlightCount(int inFlightCount) {
+        this.inFlightCount = inFlightCount;
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        if (inFlightCount == 0) {
+            styleClass.remove(IN_FLIGHT_STYLE_CLASS);
+            commandTextField.setPromptText(defaultPromptText);
+        } else if (!styleClass.contains(IN_FLIGHT_STYLE_CLASS)) {
+            styleClass.add(IN_FLIGHT_STYLE_CLASS);
+            commandTextField.setPromptText(IN_FLIGHT_PROMPT_TEXT);
         }
     }
 
@@ -75,11 +104,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns the future result, completed on the UI thread.
+         * The future is completed exceptionally if the command fails.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.CommandPipeline#submit(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
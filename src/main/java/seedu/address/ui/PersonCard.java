@@ -1,8 +1,12 @@
 package seedu.address.ui;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
@@ -11,6 +15,7 @@ import seedu.address.model.person.Person;
 
 /**
  * An UI component that displays information of a {@code Person}.
+ * A card can be rebound to display another person, so that list cells can reuse the card rather than load a new one.
  */
 public class PersonCard extends UiPart<Region> {
 
@@ -24,7 +29,8 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -41,19 +47,59 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
+    /**
+     * Creates a {@code PersonCard} that displays no person until {@link #setPerson} is called.
+     */
+    public PersonCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Displays {@code person} with the given index on this card, in place of the person displayed before.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        if (person == this.person && displayedIndex == this.displayedIndex) {
+            return;
+        }
         this.person = person;
+        this.displayedIndex = displayedIndex;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        setTagNames(person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted(Comparator.naturalOrder())
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Displays {@code tagNames} in order, reusing the labels of the tags displayed before.
+     */
+    private void setTagNames(List<String> tagNames) {
+        ObservableList<Node> tagLabels = tags.getChildren();
+        if (tagLabels.size() > tagNames.size()) {
+            tagLabels.remove(tagNames.size(), tagLabels.size());
+        }
+        for (int i = 0; i < tagNames.size(); i++) {
+            if (i < tagLabels.size()) {
+                ((Label) tagLabels.get(i)).setText(tagNames.get(i));
+            } else {
+                tagLabels.add(new Label(tagNames.get(i)));
+            }
+        }
     }
 }
@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Stops the UI, after the commands already entered have been executed. */
+    void stop();
+
 }
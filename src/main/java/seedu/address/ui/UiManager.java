@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -35,6 +36,7 @@ public class UiManager implements Ui {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting UI...");
+        long startTime = System.nanoTime();
 
         //Set the application icon.
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
@@ -43,6 +45,7 @@ public class UiManager implements Ui {
             mainWindow = new MainWindow(primaryStage, logic);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            logger.info("Started UI in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " ms");
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -50,6 +53,13 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void stop() {
+        if (mainWindow != null) {
+            mainWindow.stop();
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
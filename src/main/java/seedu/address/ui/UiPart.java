@@ -2,21 +2,36 @@ package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
 
 import javafx.fxml.FXMLLoader;
 import seedu.address.MainApp;
+import seedu.address.commons.core.LogsCenter;
 
 /**
  * Represents a distinct part of the UI. e.g. Windows, dialogs, panels, status bars, etc.
  * It contains a scene graph with a root node of type {@code T}.
+ *
+ * The contents of each FXML file are read once and kept in memory, so that parts created many times, such as the
+ * cards of a list, are loaded without going back to the resource.
  */
 public abstract class UiPart<T> {
 
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
+    private static final Logger logger = LogsCenter.getLogger(UiPart.class);
+
+    /** Contents of the FXML files read so far, keyed by the external form of their URLs. */
+    private static final Map<String, byte[]> fxmlDocuments = new ConcurrentHashMap<>();
+
     private final FXMLLoader fxmlLoader = new FXMLLoader();
 
     /**
@@ -65,14 +80,37 @@ public abstract class UiPart<T> {
      */
     private void loadFxmlFile(URL location, T root) {
         requireNonNull(location);
+        long startTime = System.nanoTime();
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
-        try {
-            fxmlLoader.load();
+        try (InputStream fxmlDocument = new ByteArrayInputStream(getFxmlDocument(location))) {
+            fxmlLoader.load(fxmlDocument);
         } catch (IOException e) {
             throw new AssertionError(e);
         }
+        logger.fine(() -> "Loaded " + getClass().getSimpleName() + " from " + location + " in "
+                + TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime) + " us");
+    }
+
+    /**
+     * Returns the contents of the FXML document at {@code location}, reading it only if it has not been read before.
+     */
+    private static byte[] getFxmlDocument(URL location) throws IOException {
+        String key = location.toExternalForm();
+        byte[] fxmlDocument = fxmlDocuments.get(key);
+        if (fxmlDocument != null) {
+            return fxmlDocument;
+        }
+
+        long startTime = System.nanoTime();
+        try (InputStream inputStream = location.openStream()) {
+            fxmlDocument = inputStream.readAllBytes();
+        }
+        fxmlDocuments.putIfAbsent(key, fxmlDocument);
+        logger.info("Read FXML file " + location + " in "
+                + TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime) + " us");
+        return fxmlDocument;
     }
 
     /**
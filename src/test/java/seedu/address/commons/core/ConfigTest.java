@@ -12,7 +12,12 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", dataFilePrettyPrinted=" + config.isDataFilePrettyPrinted()
+                + ", dataFileJournaled=" + config.isDataFileJournaled()
+                + ", dataFileBinary=" + config.isDataFileBinary()
+                + ", dataFileSyncInterval=" + config.getDataFileSyncInterval()
+                + ", commandMetricsLogInterval=" + config.getCommandMetricsLogInterval() + "}";
         assertEquals(expected, config.toString());
     }
 
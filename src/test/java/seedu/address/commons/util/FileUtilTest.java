@@ -1,13 +1,27 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +34,66 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void setSyncInterval_negativeInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, FileUtil.MESSAGE_SYNC_INTERVAL_CONSTRAINTS, () ->
+                FileUtil.setSyncInterval(-1));
+    }
+
+    @Test
+    public void writeToFileAtomically_missingFile_createsFileAndParentDirs() throws Exception {
+        Path file = testFolder.resolve("missing").resolve("file.json");
+        FileUtil.writeToFileAtomically(file, "content", true);
+        assertEquals("content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_replacesContents() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "old content that is longer than the new one");
+
+        FileUtil.writeToFileAtomically(file, "new", false);
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertOnlyFileInTestFolder(file);
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_permissionsKept() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "old");
+        if (Files.getFileAttributeView(file, PosixFileAttributeView.class) == null) {
+            // files have no POSIX permissions to keep on this platform
+            return;
+        }
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(file, permissions);
+
+        FileUtil.writeToFileAtomically(file, "new", false);
+
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void replaceFileAtomically_writeFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, "dummy IO exception", () -> FileUtil.replaceFileAtomically(file, true,
+                outputStream -> {
+                    outputStream.write("partial".getBytes());
+                    throw new IOException("dummy IO exception");
+                }));
+
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertOnlyFileInTestFolder(file);
+    }
+
+    private void assertOnlyFileInTestFolder(Path file) throws IOException {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+        assertTrue(FileUtil.isFileExists(file));
+    }
+
 }
@@ -0,0 +1,80 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    public void getPercentileNanos_noLatencies_returnsZero() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileNanos(0.5));
+        assertEquals(0, histogram.getMeanNanos());
+    }
+
+    @Test
+    public void getPercentileNanos_smallLatencies_exact() {
+        for (long nanos = 1; nanos <= 100; nanos++) {
+            histogram.record(nanos);
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(50.5, histogram.getMeanNanos());
+        assertEquals(100, histogram.getMaxNanos());
+        assertEquals(1, histogram.getPercentileNanos(0));
+        assertEquals(50, histogram.getPercentileNanos(0.5));
+        assertEquals(99, histogram.getPercentileNanos(0.99));
+        assertEquals(100, histogram.getPercentileNanos(1));
+    }
+
+    @Test
+    public void getPercentileNanos_largeLatencies_withinRelativeError() {
+        for (long micros = 1; micros <= 10_000; micros++) {
+            histogram.record(micros * 1000);
+        }
+
+        assertWithinRelativeError(5_000_000, histogram.getPercentileNanos(0.5));
+        assertWithinRelativeError(9_900_000, histogram.getPercentileNanos(0.99));
+        assertWithinRelativeError(9_990_000, histogram.getPercentileNanos(0.999));
+        assertEquals(10_000_000, histogram.getPercentileNanos(1));
+    }
+
+    @Test
+    public void record_outOfRangeLatencies_clamped() {
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(0, histogram.getPercentileNanos(0.5));
+        assertEquals(Long.MAX_VALUE, histogram.getPercentileNanos(1));
+    }
+
+    @Test
+    public void record_concurrentThreads_noLatencyLost() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        assertEquals(40_000, histogram.getCount());
+        assertEquals(9_999, histogram.getMaxNanos());
+    }
+
+    private static void assertWithinRelativeError(long expectedNanos, long actualNanos) {
+        assertTrue(actualNanos >= expectedNanos && actualNanos <= expectedNanos * 1.02,
+                "Expected about " + expectedNanos + " but was " + actualNanos);
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandMetrics.Phase;
+
+public class CommandMetricsTest {
+
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+
+    @Test
+    public void getCommandWord() {
+        assertEquals("find", CommandMetrics.getCommandWord("  find alex  yeoh"));
+        assertEquals("list", CommandMetrics.getCommandWord("list"));
+    }
+
+    @Test
+    public void record_byCommandWordAndPhase_keptApart() {
+        commandMetrics.record("find", Phase.PARSE, 1000);
+        commandMetrics.record("find", Phase.PARSE, 3000);
+        commandMetrics.record("find", Phase.EXECUTE, 2000);
+
+        assertEquals(2, commandMetrics.getHistogram("find", Phase.PARSE).getCount());
+        assertEquals(1, commandMetrics.getHistogram("find", Phase.EXECUTE).getCount());
+        assertEquals(0, commandMetrics.getHistogram("find", Phase.SAVE).getCount());
+        assertEquals(0, commandMetrics.getHistogram("list", Phase.PARSE).getCount());
+    }
+
+    @Test
+    public void format_noCommands_noCommandsMessage() {
+        assertEquals(CommandMetrics.MESSAGE_NO_COMMANDS, commandMetrics.format());
+    }
+
+    @Test
+    public void format_commands_rowPerRecordedPhaseInCommandWordOrder() {
+        commandMetrics.record("list", Phase.PARSE, 1000);
+        commandMetrics.record("add", Phase.SAVE, 2000);
+        commandMetrics.record("add", Phase.PARSE, 3000);
+
+        String[] lines = commandMetrics.format().split("\n");
+        assertEquals(4, lines.length);
+        assertEquals(CommandMetrics.MESSAGE_HEADER, lines[0]);
+        assertTrue(lines[1].startsWith(String.format("%-12s %-8s %8d", "add", "parse", 1)));
+        assertTrue(lines[2].startsWith(String.format("%-12s %-8s %8d", "add", "save", 1)));
+        assertTrue(lines[3].startsWith(String.format("%-12s %-8s %8d", "list", "parse", 1)));
+    }
+
+    @Test
+    public void setLogInterval_negativeInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> commandMetrics.setLogInterval(-1));
+    }
+}
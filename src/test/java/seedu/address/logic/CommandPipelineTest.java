@@ -0,0 +1,147 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandPipelineTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private List<Runnable> uiThreadTasks = new ArrayList<>();
+    private CommandPipeline commandPipeline;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        commandPipeline = new CommandPipeline(new LogicManager(model, storage), this::runOnUiThread);
+    }
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CommandPipeline(null, Runnable::run));
+    }
+
+    @Test
+    public void getPersonList_noCommands_copyOfFilteredPersonList() {
+        assertEquals(model.getFilteredPersonList(), commandPipeline.getPersonList());
+    }
+
+    @Test
+    public void submit_commands_personListUpdatedBeforeResultsDeliveredInOrder() throws Exception {
+        List<String> deliveredFeedback = new ArrayList<>();
+        CompletableFuture<CommandResult> findResult = commandPipeline.submit("find Meier");
+        findResult.thenAccept(result -> {
+            deliveredFeedback.add(result.getFeedbackToUser());
+            assertEquals(2, commandPipeline.getPersonList().size());
+        });
+        CompletableFuture<CommandResult> clearResult = commandPipeline.submit(ClearCommand.COMMAND_WORD);
+        clearResult.thenAccept(result -> {
+            deliveredFeedback.add(result.getFeedbackToUser());
+            assertTrue(commandPipeline.getPersonList().isEmpty());
+        });
+        commandPipeline.shutdown();
+
+        // nothing reaches the UI thread until it runs
+        assertFalse(findResult.isDone());
+        assertEquals(getTypicalAddressBook().getPersonList(), commandPipeline.getPersonList());
+
+        runUiThreadTasks();
+        assertEquals(List.of(findResult.get().getFeedbackToUser(), ClearCommand.MESSAGE_SUCCESS), deliveredFeedback);
+        assertEquals(model.getFilteredPersonList(), commandPipeline.getPersonList());
+    }
+
+    @Test
+    public void submit_changesQueuedTogether_appliedInOneUiThreadTask() {
+        commandPipeline.submit("find Meier");
+        commandPipeline.submit(ListCommand.COMMAND_WORD);
+        commandPipeline.submit("delete 1");
+        commandPipeline.shutdown();
+
+        assertEquals(1, uiThreadTasks.size());
+        runUiThreadTasks();
+        assertEquals(model.getFilteredPersonList(), commandPipeline.getPersonList());
+    }
+
+    @Test
+    public void submit_invalidCommand_completedExceptionally() throws Exception {
+        CompletableFuture<CommandResult> result = commandPipeline.submit("uicfhmowqewca");
+        commandPipeline.shutdown();
+        runUiThreadTasks();
+
+        Throwable error = result.handle((unused, e) -> e).get();
+        assertTrue(error instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, error.getMessage());
+    }
+
+    @Test
+    public void submitTaskAndQuery_afterCommand_runAfterCommandOnCommandThread() throws Exception {
+        commandPipeline.submit(ClearCommand.COMMAND_WORD);
+        CompletableFuture<Integer> personCount = commandPipeline.submitQuery(() ->
+                model.getAddressBook().getPersonList().size());
+        GuiSettings guiSettings = new GuiSettings(800, 600, 1, 2);
+        commandPipeline.submitTask(() -> model.setGuiSettings(guiSettings)).get();
+
+        assertEquals(0, (int) personCount.get());
+        assertEquals(guiSettings, model.getGuiSettings());
+    }
+
+    @Test
+    public void shutdown_commandStillExecuting_returnsAfterTimeout() throws Exception {
+        CountDownLatch blocker = new CountDownLatch(1);
+        commandPipeline.submitTask(() -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertFalse(commandPipeline.shutdown(10, TimeUnit.MILLISECONDS));
+        blocker.countDown();
+    }
+
+    private synchronized void runOnUiThread(Runnable task) {
+        uiThreadTasks.add(task);
+    }
+
+    /**
+     * Runs the tasks given to the UI thread so far, as the UI thread would.
+     */
+    private synchronized void runUiThreadTasks() {
+        List<Runnable> tasks = new ArrayList<>(uiThreadTasks);
+        uiThreadTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+}
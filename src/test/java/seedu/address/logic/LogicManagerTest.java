@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -12,15 +14,24 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import seedu.address.logic.CommandMetrics.Phase;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -31,6 +42,7 @@ import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -82,6 +94,119 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_addressBookUnchangedSinceLastSave_skipsSave() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, logic.getSkippedSaveCount());
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, logic.getSkippedSaveCount());
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertEquals(2, logic.getSkippedSaveCount());
+    }
+
+    @Test
+    public void saveAddressBook_addressBookUnchangedSinceLastSave_returnsFalse() throws Exception {
+        assertTrue(logic.saveAddressBook());
+        assertFalse(logic.saveAddressBook());
+
+        logic.executeWithoutSaving(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        assertTrue(logic.saveAddressBook());
+    }
+
+    @Test
+    public void execute_previousSaveFailed_retriesSave() {
+        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+                LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+
+        // the failed save must not be mistaken for a successful one
+        assertThrows(CommandException.class, () -> logic.execute(ListCommand.COMMAND_WORD));
+        assertEquals(0, logic.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_backgroundSaveFailed_savesAgain() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("writeBehindAddressBook.json");
+        boolean[] isSaveFailing = {true};
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookPath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (isSaveFailing[0]) {
+                    throw DUMMY_IO_EXCEPTION;
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        logic = new LogicManager(model, storage);
+        CountDownLatch saveFailed = new CountDownLatch(1);
+        logic.setSaveErrorHandler(message -> saveFailed.countDown());
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertTrue(saveFailed.await(10, TimeUnit.SECONDS));
+
+        // the address book is unchanged, but the data file does not hold it
+        isSaveFailing[0] = false;
+        logic.execute(ListCommand.COMMAND_WORD);
+        storage.flush();
+        assertEquals(0, logic.getSkippedSaveCount());
+        assertTrue(Files.exists(addressBookPath));
+    }
+
+    @Test
+    public void execute_commands_phasesRecordedInGivenCommandMetrics() throws Exception {
+        CommandMetrics commandMetrics = new CommandMetrics();
+        logic = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), commandMetrics);
+
+        // only the first command saves, as the address book is unchanged afterwards
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.executeWithoutSaving(ListCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        assertEquals(3, commandMetrics.getHistogram(ListCommand.COMMAND_WORD, Phase.PARSE).getCount());
+        assertEquals(3, commandMetrics.getHistogram(ListCommand.COMMAND_WORD, Phase.EXECUTE).getCount());
+        assertEquals(1, commandMetrics.getHistogram(ListCommand.COMMAND_WORD, Phase.SAVE).getCount());
+        assertEquals(1, commandMetrics.getHistogram(CommandMetrics.INVALID_COMMAND_WORD, Phase.PARSE).getCount());
+        // the stats command shows the same metrics
+        assertTrue(logic.executeWithoutSaving(StatsCommand.COMMAND_WORD).getFeedbackToUser()
+                .contains(ListCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void execute_commandsWhileRecording_commandEventsRecorded() throws Exception {
+        Path recordingPath = temporaryFolder.resolve("commands.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("seedu.address.Command").withoutThreshold();
+            recording.start();
+            logic.execute(ListCommand.COMMAND_WORD);
+            logic.executeWithoutSaving(ListCommand.COMMAND_WORD);
+            assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+            recording.stop();
+            recording.dump(recordingPath);
+        }
+
+        // the recording also holds events that describe the recording itself
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingPath).stream()
+                .filter(event -> event.getEventType().getName().equals("seedu.address.Command"))
+                .toList();
+        assertEquals(3, events.size());
+        assertEquals(ListCommand.COMMAND_WORD, events.get(0).getString("commandWord"));
+        assertEquals(model.getAddressBook().getPersonList().size(), events.get(0).getInt("personCount"));
+        assertTrue(events.get(0).getBoolean("isSuccessful"));
+        assertTrue(events.get(0).getBoolean("isSaved"));
+        assertTrue(events.get(1).getBoolean("isSuccessful"));
+        assertFalse(events.get(1).getBoolean("isSaved"));
+        assertEquals("uicfhmowqewca", events.get(2).getString("commandWord"));
+        assertFalse(events.get(2).getBoolean("isSuccessful"));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
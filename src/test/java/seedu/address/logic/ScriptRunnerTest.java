@@ -0,0 +1,170 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindStorage;
+import seedu.address.testutil.PersonBuilder;
+
+public class ScriptRunnerTest {
+
+    private static final String ADD_AMY_COMMAND = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+    private static final String FAILING_COMMAND = "fail";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private CountingAddressBookStorage addressBookStorage;
+    private ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private ScriptRunner scriptRunner;
+
+    @BeforeEach
+    public void setUp() {
+        addressBookStorage = new CountingAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        scriptRunner = new ScriptRunner(new LogicManager(model, storage), new PrintStream(output, true));
+    }
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ScriptRunner(null, System.out));
+    }
+
+    @Test
+    public void run_validCommands_executedAndSavedOnce() throws Exception {
+        int failedCount = run("# adds Amy and removes Alice", "", ADD_AMY_COMMAND, "delete 1", "  list  ");
+
+        AddressBook expectedAddressBook = getTypicalAddressBook();
+        expectedAddressBook.removePerson(ALICE);
+        expectedAddressBook.addPerson(new PersonBuilder(AMY).withTags().build());
+        assertEquals(0, failedCount);
+        assertEquals(expectedAddressBook, model.getAddressBook());
+        assertEquals(1, addressBookStorage.saveCount);
+        assertEquals(expectedAddressBook, new AddressBook(addressBookStorage.readAddressBook().get()));
+
+        String printed = output.toString();
+        assertTrue(printed.contains(String.format(ScriptRunner.MESSAGE_SUMMARY, 3, 0, 0, 0).split(" in ")[0]));
+        assertTrue(printed.contains(ScriptRunner.MESSAGE_TIMING_HEADER));
+    }
+
+    @Test
+    public void run_failingCommands_reportedAndSkipped() throws Exception {
+        int failedCount = run("unknown", "delete 100", ClearCommand.COMMAND_WORD);
+
+        assertEquals(2, failedCount);
+        assertEquals(new AddressBook(), model.getAddressBook());
+        String printed = output.toString();
+        assertTrue(printed.contains(String.format(ScriptRunner.MESSAGE_COMMAND_FAILED, 1, MESSAGE_UNKNOWN_COMMAND)));
+        assertTrue(printed.contains(String.format(ScriptRunner.MESSAGE_COMMAND_FAILED, 2,
+                MESSAGE_INVALID_PERSON_DISPLAYED_INDEX)));
+    }
+
+    @Test
+    public void run_exitCommand_remainingCommandsSkipped() throws Exception {
+        run(ExitCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD);
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void run_saveFails_throwsCommandException() {
+        addressBookStorage.isSaveFailing = true;
+        assertThrows(CommandException.class, () -> run(ClearCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void run_backgroundWriteFails_throwsCommandException() {
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        scriptRunner = new ScriptRunner(new LogicManager(model, storage), new PrintStream(output, true));
+        addressBookStorage.isSaveFailing = true;
+
+        assertThrows(CommandException.class, () -> run(ClearCommand.COMMAND_WORD));
+        assertEquals("", output.toString());
+    }
+
+    @Test
+    public void run_commandThrowsRuntimeException_earlierChangesSaved() throws Exception {
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        AddressBookParser failingParser = new AddressBookParser() {
+            @Override
+            public Command parseCommand(String userInput) throws ParseException {
+                if (userInput.equals(FAILING_COMMAND)) {
+                    throw new IllegalStateException(FAILING_COMMAND);
+                }
+                return super.parseCommand(userInput);
+            }
+        };
+        scriptRunner = new ScriptRunner(new LogicManager(model, storage, failingParser, new CommandMetrics()),
+                new PrintStream(output, true));
+
+        assertThrows(IllegalStateException.class, () -> run(ClearCommand.COMMAND_WORD, FAILING_COMMAND));
+        assertEquals(1, addressBookStorage.saveCount);
+        assertEquals(new AddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    private int run(String... lines) throws IOException, CommandException {
+        return scriptRunner.run(new BufferedReader(new StringReader(String.join("\n", lines))));
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that counts the address books saved, and that can be made to fail.
+     */
+    private static class CountingAddressBookStorage extends JsonAddressBookStorage {
+        private int saveCount;
+        private volatile boolean isSaveFailing;
+
+        CountingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (isSaveFailing) {
+                throw new IOException("dummy IO exception");
+            }
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+}
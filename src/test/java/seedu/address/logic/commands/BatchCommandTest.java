@@ -0,0 +1,176 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagsMatchPredicate;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code BatchCommand}.
+ */
+public class BatchCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_allCommandsSucceed_allChangesKept() {
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person secondPerson = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        BatchCommand batchCommand = new BatchCommand(List.of(new DeleteCommand(INDEX_SECOND_PERSON),
+                new DeleteCommand(INDEX_FIRST_PERSON), new AddCommand(AMY)));
+
+        String expectedMessage = String.format(BatchCommand.MESSAGE_SUCCESS, 3, String.join("\n",
+                String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(secondPerson)),
+                String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(firstPerson)),
+                String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(AMY))));
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(secondPerson);
+        expectedModel.deletePerson(firstPerson);
+        expectedModel.addPerson(AMY);
+
+        assertCommandSuccess(batchCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_laterCommandFails_earlierChangesRolledBack() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size());
+        BatchCommand batchCommand = new BatchCommand(List.of(new DeleteCommand(INDEX_FIRST_PERSON),
+                new DeleteCommand(outOfBoundIndex)));
+
+        assertCommandFailure(batchCommand, model, String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 2,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+    }
+
+    @Test
+    public void execute_firstCommandFails_addressBookUntouched() {
+        long versionBeforeBatch = model.getAddressBookVersion();
+        BatchCommand batchCommand = new BatchCommand(List.of(new AddCommand(getTypicalAddressBook()
+                .getPersonList().get(0))));
+
+        assertCommandFailure(batchCommand, model, String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 1,
+                AddCommand.MESSAGE_DUPLICATE_PERSON));
+        assertEquals(versionBeforeBatch, model.getAddressBookVersion());
+    }
+
+    @Test
+    public void execute_commandThrowsRuntimeException_changesAndFilterRolledBack() {
+        Command failingCommand = new Command() {
+            @Override
+            public CommandResult execute(Model model) {
+                throw new DuplicatePersonException();
+            }
+        };
+        BatchCommand batchCommand = new BatchCommand(List.of(
+                new FindCommand(new NameContainsKeywordsPredicate(List.of("Meier"))),
+                new DeleteCommand(INDEX_FIRST_PERSON), failingCommand));
+
+        assertThrows(DuplicatePersonException.class, () -> batchCommand.execute(model));
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_laterCommandFails_indexesAndFilterUnchanged() {
+        TagsMatchPredicate friendsPredicate = new TagsMatchPredicate(List.of(Set.of(new Tag("friends"))), Set.of());
+        model.updateFilteredPersonList(friendsPredicate);
+        Index outOfBoundIndex = Index.fromOneBased(getTypicalAddressBook().getPersonList().size() + 1);
+        BatchCommand batchCommand = new BatchCommand(List.of(new DeleteCommand(INDEX_FIRST_PERSON),
+                new AddCommand(AMY), new FindCommand(new NameContainsKeywordsPredicate(List.of("Amy"))),
+                new DeleteCommand(outOfBoundIndex)));
+
+        ModelManager expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.updateFilteredPersonList(friendsPredicate);
+        assertCommandFailure(batchCommand, model, String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 4,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+        assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList());
+
+        // the name and tag indexes still answer queries as the unchanged address book does
+        assertSameFilteredPersons(expectedModel, new NameContainsKeywordsPredicate(List.of("Amy", "Alice")));
+        assertSameFilteredPersons(expectedModel, friendsPredicate);
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_indexesAndFilterUpdated() throws Exception {
+        TagsMatchPredicate friendsPredicate = new TagsMatchPredicate(List.of(Set.of(new Tag("friends"))), Set.of());
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate(List.of("Amy", "Alice"));
+        BatchCommand batchCommand = new BatchCommand(List.of(new DeleteCommand(INDEX_FIRST_PERSON),
+                new AddCommand(AMY), new FindCommand(namePredicate)));
+
+        ModelManager expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(firstPerson);
+        expectedModel.addPerson(AMY);
+        expectedModel.updateFilteredPersonList(namePredicate);
+        batchCommand.execute(model);
+        assertEquals(expectedModel.getAddressBook(), model.getAddressBook());
+        assertEquals(List.of(AMY), model.getFilteredPersonList());
+        assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList());
+
+        assertSameFilteredPersons(expectedModel, friendsPredicate);
+    }
+
+    /**
+     * Asserts that {@code model} shows the same persons as {@code expectedModel} once both are filtered by
+     * {@code predicate}.
+     */
+    private void assertSameFilteredPersons(Model expectedModel, Predicate<Person> predicate) {
+        expectedModel.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(predicate);
+        assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        BatchCommand batchFirstCommand = new BatchCommand(List.of(new DeleteCommand(INDEX_FIRST_PERSON)));
+        BatchCommand batchSecondCommand = new BatchCommand(List.of(new DeleteCommand(INDEX_SECOND_PERSON)));
+
+        // same object -> returns true
+        assertTrue(batchFirstCommand.equals(batchFirstCommand));
+
+        // same values -> returns true
+        assertTrue(batchFirstCommand.equals(new BatchCommand(List.of(new DeleteCommand(INDEX_FIRST_PERSON)))));
+
+        // different types -> returns false
+        assertFalse(batchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(batchFirstCommand.equals(null));
+
+        // different commands -> returns false
+        assertFalse(batchFirstCommand.equals(batchSecondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<Command> commands = List.of(new DeleteCommand(INDEX_FIRST_PERSON));
+        BatchCommand batchCommand = new BatchCommand(commands);
+        String expected = BatchCommand.class.getCanonicalName() + "{commands=" + commands + "}";
+        assertEquals(expected, batchCommand.toString());
+    }
+
+}
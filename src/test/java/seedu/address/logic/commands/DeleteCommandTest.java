@@ -10,6 +10,8 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -41,6 +43,50 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_multipleValidIndexesUnfilteredList_success() {
+        List<Person> lastShownList = model.getFilteredPersonList();
+        List<Person> personsToDelete = List.of(lastShownList.get(0), lastShownList.get(1), lastShownList.get(3));
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON,
+                Index.fromOneBased(4)));
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, 3,
+                personsToDelete.get(0).getName() + ", " + personsToDelete.get(1).getName() + ", "
+                + personsToDelete.get(2).getName());
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePersons(personsToDelete);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_moreIndexesThanNamesShown_namesTruncated() {
+        List<Person> personsToDelete = List.copyOf(model.getFilteredPersonList());
+        assertTrue(personsToDelete.size() > Messages.MAX_NAMES_SHOWN);
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON,
+                Index.fromOneBased(3), Index.fromOneBased(4), Index.fromOneBased(5), Index.fromOneBased(6),
+                Index.fromOneBased(7)));
+
+        String shownNames = String.join(", ", personsToDelete.subList(0, Messages.MAX_NAMES_SHOWN).stream()
+                .map(person -> person.getName().fullName).toList());
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, personsToDelete.size(),
+                shownNames + " and " + (personsToDelete.size() - Messages.MAX_NAMES_SHOWN) + " more");
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePersons(personsToDelete);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_someIndexesOutOfBounds_nothingDeleted() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(INDEX_FIRST_PERSON, outOfBoundIndex));
+
+        assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
@@ -105,7 +151,7 @@ public class DeleteCommandTest {
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
         DeleteCommand deleteCommand = new DeleteCommand(targetIndex);
-        String expected = DeleteCommand.class.getCanonicalName() + "{targetIndex=" + targetIndex + "}";
+        String expected = DeleteCommand.class.getCanonicalName() + "{targetIndexes=[" + targetIndex + "]}";
         assertEquals(expected, deleteCommand.toString());
     }
 
@@ -0,0 +1,52 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code DeleteShownCommand}.
+ */
+public class DeleteShownCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_filteredList_shownPersonsDeleted() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("Meier"));
+        model.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.deletePersons(List.of(BENSON, DANIEL));
+
+        assertCommandSuccess(new DeleteShownCommand(), model, String.format(DeleteShownCommand.MESSAGE_SUCCESS, 2),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_unfilteredList_allPersonsDeleted() {
+        expectedModel.deletePersons(getTypicalAddressBook().getPersonList());
+
+        assertCommandSuccess(new DeleteShownCommand(), model, String.format(DeleteShownCommand.MESSAGE_SUCCESS,
+                getTypicalAddressBook().getPersonList().size()), expectedModel);
+    }
+
+    @Test
+    public void execute_noPersonsShown_nothingDeleted() {
+        model.updateFilteredPersonList(unused -> false);
+        expectedModel.updateFilteredPersonList(unused -> false);
+
+        assertCommandSuccess(new DeleteShownCommand(), model, String.format(DeleteShownCommand.MESSAGE_SUCCESS, 0),
+                expectedModel);
+    }
+}
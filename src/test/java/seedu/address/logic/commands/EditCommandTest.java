@@ -15,6 +15,8 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -70,6 +72,47 @@ public class EditCommandTest {
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_multipleIndexesUnfilteredList_success() {
+        List<Person> lastShownList = model.getFilteredPersonList();
+        Person firstPerson = lastShownList.get(INDEX_FIRST_PERSON.getZeroBased());
+        Person secondPerson = lastShownList.get(INDEX_SECOND_PERSON.getZeroBased());
+        Person editedFirstPerson = new PersonBuilder(firstPerson).withTags(VALID_TAG_HUSBAND).build();
+        Person editedSecondPerson = new PersonBuilder(secondPerson).withTags(VALID_TAG_HUSBAND).build();
+
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withTags(VALID_TAG_HUSBAND).build();
+        EditCommand editCommand = new EditCommand(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON), descriptor);
+
+        String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_PERSONS_SUCCESS, 2,
+                firstPerson.getName() + ", " + secondPerson.getName());
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPerson(firstPerson, editedFirstPerson);
+        expectedModel.setPerson(secondPerson, editedSecondPerson);
+
+        long versionBeforeEdit = model.getAddressBookVersion();
+        assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+        // both persons are replaced in a single change to the address book
+        assertEquals(versionBeforeEdit + 1, model.getAddressBookVersion());
+    }
+
+    @Test
+    public void execute_nameForMultipleIndexes_failure() {
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withName(VALID_NAME_BOB).build();
+        EditCommand editCommand = new EditCommand(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON), descriptor);
+
+        assertCommandFailure(editCommand, model, EditCommand.MESSAGE_NAME_FOR_MULTIPLE_PERSONS);
+    }
+
+    @Test
+    public void execute_someIndexesOutOfBounds_nothingEdited() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withTags(VALID_TAG_HUSBAND).build();
+        EditCommand editCommand = new EditCommand(List.of(INDEX_FIRST_PERSON, outOfBoundIndex), descriptor);
+
+        assertCommandFailure(editCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
     @Test
     public void execute_noFieldSpecifiedUnfilteredList_success() {
         EditCommand editCommand = new EditCommand(INDEX_FIRST_PERSON, new EditPersonDescriptor());
@@ -176,7 +219,7 @@ public class EditCommandTest {
         Index index = Index.fromOneBased(1);
         EditPersonDescriptor editPersonDescriptor = new EditPersonDescriptor();
         EditCommand editCommand = new EditCommand(index, editPersonDescriptor);
-        String expected = EditCommand.class.getCanonicalName() + "{index=" + index + ", editPersonDescriptor="
+        String expected = EditCommand.class.getCanonicalName() + "{indexes=[" + index + "], editPersonDescriptor="
                 + editPersonDescriptor + "}";
         assertEquals(expected, editCommand.toString());
     }
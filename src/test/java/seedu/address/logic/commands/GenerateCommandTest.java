@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.PersonGenerator;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code GenerateCommand}.
+ */
+public class GenerateCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_nonEmptyAddressBook_personsAddedAfterExistingPersons() {
+        // none of the typical names ends with a number, so numbering starts from 0
+        AddressBook expectedAddressBook = getTypicalAddressBook();
+        new PersonGenerator(PersonGenerator.DEFAULT_SEED).addPersons(expectedAddressBook, 0, 50);
+        Model expectedModel = new ModelManager(expectedAddressBook, new UserPrefs());
+
+        assertCommandSuccess(new GenerateCommand(50), model, String.format(GenerateCommand.MESSAGE_SUCCESS, 50),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_generateTwice_differentPersonsAdded() throws Exception {
+        new GenerateCommand(50).execute(model);
+        new GenerateCommand(50).execute(model);
+
+        assertEquals(getTypicalAddressBook().getPersonList().size() + 100,
+                model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_generatedPersonDeleted_numberingContinuesFromHighestPosition() throws Exception {
+        model = new ModelManager(new AddressBook(), new UserPrefs());
+        PersonGenerator generator = new PersonGenerator(PersonGenerator.DEFAULT_SEED);
+        new GenerateCommand(10).execute(model);
+        model.deletePerson(generator.generatePerson(3));
+
+        CommandResult result = new GenerateCommand(5).execute(model);
+
+        assertEquals(String.format(GenerateCommand.MESSAGE_SUCCESS, 5), result.getFeedbackToUser());
+        AddressBook expectedAddressBook = PersonGenerator.generateAddressBook(15);
+        expectedAddressBook.removePerson(generator.generatePerson(3));
+        assertEquals(expectedAddressBook, model.getAddressBook());
+    }
+
+    @Test
+    public void equals() {
+        GenerateCommand generateCommand = new GenerateCommand(10);
+
+        // same values -> returns true
+        assertTrue(generateCommand.equals(new GenerateCommand(10)));
+
+        // same object -> returns true
+        assertTrue(generateCommand.equals(generateCommand));
+
+        // null -> returns false
+        assertFalse(generateCommand.equals(null));
+
+        // different count -> returns false
+        assertFalse(generateCommand.equals(new GenerateCommand(20)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        GenerateCommand generateCommand = new GenerateCommand(10);
+        String expected = GenerateCommand.class.getCanonicalName() + "{count=10}";
+        assertEquals(expected, generateCommand.toString());
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandMetrics;
+import seedu.address.logic.CommandMetrics.Phase;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void constructor_nullCommandMetrics_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StatsCommand(null));
+    }
+
+    @Test
+    public void execute_recordedCommands_showsMetrics() {
+        CommandMetrics commandMetrics = new CommandMetrics();
+        commandMetrics.record(ListCommand.COMMAND_WORD, Phase.EXECUTE, 1000);
+
+        assertCommandSuccess(new StatsCommand(commandMetrics), model,
+                String.format(StatsCommand.MESSAGE_SUCCESS, commandMetrics.format()), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        CommandMetrics commandMetrics = new CommandMetrics();
+        StatsCommand statsCommand = new StatsCommand(commandMetrics);
+
+        // same metrics -> returns true
+        assertTrue(statsCommand.equals(new StatsCommand(commandMetrics)));
+
+        // same object -> returns true
+        assertTrue(statsCommand.equals(statsCommand));
+
+        // null -> returns false
+        assertFalse(statsCommand.equals(null));
+
+        // different metrics -> returns false
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandMetrics())));
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code TagShownCommand}.
+ */
+public class TagShownCommandTest {
+
+    private static final Tag TAG_COLLEAGUE = new Tag("colleague");
+    private static final Tag TAG_FRIENDS = new Tag("friends");
+    private static final NameContainsKeywordsPredicate PREDICATE_MEIER =
+            new NameContainsKeywordsPredicate(List.of("Meier"));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_filteredList_shownPersonsRetagged() {
+        model.updateFilteredPersonList(PREDICATE_MEIER);
+        expectedModel.updateFilteredPersonList(PREDICATE_MEIER);
+        expectedModel.setPersons(Map.of(
+                BENSON, new PersonBuilder(BENSON).withTags("owesMoney", "colleague").build(),
+                DANIEL, new PersonBuilder(DANIEL).withTags("colleague").build()));
+
+        TagShownCommand command = new TagShownCommand(Set.of(TAG_COLLEAGUE), Set.of(TAG_FRIENDS));
+        assertCommandSuccess(command, model, String.format(TagShownCommand.MESSAGE_SUCCESS, 2, 2), expectedModel);
+    }
+
+    @Test
+    public void execute_tagsAlreadyPresent_nothingRetagged() {
+        model.updateFilteredPersonList(PREDICATE_MEIER);
+        expectedModel.updateFilteredPersonList(PREDICATE_MEIER);
+
+        TagShownCommand command = new TagShownCommand(Set.of(TAG_FRIENDS), Set.of());
+        assertCommandSuccess(command, model, String.format(TagShownCommand.MESSAGE_SUCCESS, 0, 2), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        TagShownCommand tagShownCommand = new TagShownCommand(Set.of(TAG_COLLEAGUE), Set.of(TAG_FRIENDS));
+
+        // same values -> returns true
+        assertTrue(tagShownCommand.equals(new TagShownCommand(Set.of(TAG_COLLEAGUE), Set.of(TAG_FRIENDS))));
+
+        // same object -> returns true
+        assertTrue(tagShownCommand.equals(tagShownCommand));
+
+        // null -> returns false
+        assertFalse(tagShownCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(tagShownCommand.equals(new ClearCommand()));
+
+        // tags swapped -> returns false
+        assertFalse(tagShownCommand.equals(new TagShownCommand(Set.of(TAG_FRIENDS), Set.of(TAG_COLLEAGUE))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        TagShownCommand tagShownCommand = new TagShownCommand(Set.of(TAG_COLLEAGUE), Set.of());
+        String expected = TagShownCommand.class.getCanonicalName() + "{tagsToAdd=" + Set.of(TAG_COLLEAGUE)
+                + ", tagsToRemove=[]}";
+        assertEquals(expected, tagShownCommand.toString());
+    }
+}
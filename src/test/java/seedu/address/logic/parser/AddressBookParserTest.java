@@ -9,22 +9,32 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.CommandMetrics;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DeleteShownCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.GenerateCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.TagShownCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TagsMatchPredicate;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -40,12 +50,30 @@ public class AddressBookParserTest {
         assertEquals(new AddCommand(person), command);
     }
 
+    @Test
+    public void parseCommand_batch() throws Exception {
+        BatchCommand command = (BatchCommand) parser.parseCommand(BatchCommand.COMMAND_WORD + " "
+                + DeleteCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased() + " " + BatchCommand.END_WORD);
+        assertEquals(new BatchCommand(List.of(new DeleteCommand(INDEX_FIRST_PERSON))), command);
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD + " 3") instanceof ClearCommand);
     }
 
+    @Test
+    public void parseCommand_deleteShown() throws Exception {
+        assertTrue(parser.parseCommand(DeleteShownCommand.COMMAND_WORD) instanceof DeleteShownCommand);
+    }
+
+    @Test
+    public void parseCommand_tagShown() throws Exception {
+        TagShownCommand command = (TagShownCommand) parser.parseCommand(TagShownCommand.COMMAND_WORD + " t/friend");
+        assertEquals(new TagShownCommand(Set.of(new Tag("friend")), Set.of()), command);
+    }
+
     @Test
     public void parseCommand_delete() throws Exception {
         DeleteCommand command = (DeleteCommand) parser.parseCommand(
@@ -76,6 +104,26 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_filter() throws Exception {
+        FilterCommand command = (FilterCommand) parser.parseCommand(FilterCommand.COMMAND_WORD + " t/friends");
+        assertEquals(new FilterCommand(new TagsMatchPredicate(List.of(Set.of(new Tag("friends"))), Set.of())),
+                command);
+    }
+
+    @Test
+    public void parseCommand_generate() throws Exception {
+        GenerateCommand command = (GenerateCommand) parser.parseCommand(GenerateCommand.COMMAND_WORD + " 1000");
+        assertEquals(new GenerateCommand(1000), command);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        CommandMetrics commandMetrics = new CommandMetrics();
+        assertEquals(new StatsCommand(commandMetrics),
+                new AddressBookParser(commandMetrics).parseCommand(StatsCommand.COMMAND_WORD));
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
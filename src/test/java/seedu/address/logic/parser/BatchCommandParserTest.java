@@ -0,0 +1,61 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.DeleteCommand;
+
+public class BatchCommandParserTest {
+
+    private BatchCommandParser parser = new BatchCommandParser(new AddressBookParser());
+
+    @Test
+    public void parse_validArgs_returnsBatchCommand() {
+        BatchCommand expectedBatchCommand = new BatchCommand(List.of(
+                new DeleteCommand(INDEX_SECOND_PERSON), new DeleteCommand(INDEX_FIRST_PERSON)));
+
+        assertParseSuccess(parser, " delete 2; delete 1 end", expectedBatchCommand);
+
+        // separators without commands are skipped, and whitespace or a separator may precede the end word
+        assertParseSuccess(parser, " ;delete 2 ;; \t delete 1;end ", expectedBatchCommand);
+    }
+
+    @Test
+    public void parse_missingEndWord_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " delete 1", expectedMessage);
+        assertParseFailure(parser, " delete 1 weekend", expectedMessage);
+    }
+
+    @Test
+    public void parse_noCommands_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " end", expectedMessage);
+        assertParseFailure(parser, " ; ; end", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidCommand_throwsParseException() {
+        assertParseFailure(parser, " delete 1; unknown end",
+                String.format(BatchCommand.MESSAGE_INVALID_COMMAND, 2, MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void parse_unsupportedCommand_throwsParseException() {
+        assertParseFailure(parser, " exit end", String.format(BatchCommand.MESSAGE_UNSUPPORTED_COMMAND, 1, "exit"));
+        assertParseFailure(parser, " delete 1; help end",
+                String.format(BatchCommand.MESSAGE_UNSUPPORTED_COMMAND, 2, "help"));
+        assertParseFailure(parser, " batch delete 1 end end",
+                String.format(BatchCommand.MESSAGE_UNSUPPORTED_COMMAND, 1, "batch delete 1 end"));
+    }
+
+}
@@ -32,6 +32,8 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -103,6 +105,21 @@ public class EditCommandParserTest {
                 Name.MESSAGE_CONSTRAINTS);
     }
 
+    @Test
+    public void parse_multipleIndexes_success() {
+        String userInput = "1-2," + INDEX_THIRD_PERSON.getOneBased() + TAG_DESC_FRIEND;
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withTags(VALID_TAG_FRIEND).build();
+        EditCommand expectedCommand = new EditCommand(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON,
+                INDEX_THIRD_PERSON), descriptor);
+
+        assertParseSuccess(parser, userInput, expectedCommand);
+    }
+
+    @Test
+    public void parse_nameForMultipleIndexes_failure() {
+        assertParseFailure(parser, "1-2" + NAME_DESC_AMY, EditCommand.MESSAGE_NAME_FOR_MULTIPLE_PERSONS);
+    }
+
     @Test
     public void parse_allFieldsSpecified_success() {
         Index targetIndex = INDEX_SECOND_PERSON;
@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.person.TagsMatchPredicate;
+import seedu.address.model.tag.Tag;
+
+public class FilterCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsFilterCommand() {
+        FilterCommand expectedFilterCommand = new FilterCommand(new TagsMatchPredicate(
+                List.of(Set.of(new Tag("friends"), new Tag("family")), Set.of(new Tag("colleagues"))),
+                Set.of(new Tag("inactive"))));
+        assertParseSuccess(parser, " t/friends|family t/colleagues -t/inactive", expectedFilterCommand);
+
+        // only excluded tags
+        assertParseSuccess(parser, " -t/inactive",
+                new FilterCommand(new TagsMatchPredicate(List.of(), Set.of(new Tag("inactive")))));
+    }
+
+    @Test
+    public void parse_noTags_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "friends", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidTags_throwsParseException() {
+        assertParseFailure(parser, " t/friends|", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " -t/in*active", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
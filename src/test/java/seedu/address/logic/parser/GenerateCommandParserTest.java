@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.GenerateCommand;
+
+public class GenerateCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, GenerateCommand.MESSAGE_USAGE);
+
+    private GenerateCommandParser parser = new GenerateCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsGenerateCommand() {
+        assertParseSuccess(parser, " 1000 ", new GenerateCommand(1000));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "-5", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "10 persons", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "99999999999", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_countAboveMaximum_throwsParseException() {
+        assertParseSuccess(parser, String.valueOf(GenerateCommand.MAX_COUNT),
+                new GenerateCommand(GenerateCommand.MAX_COUNT));
+        assertParseFailure(parser, String.valueOf(GenerateCommand.MAX_COUNT + 1),
+                String.format(GenerateCommand.MESSAGE_COUNT_TOO_LARGE, GenerateCommand.MAX_COUNT));
+    }
+}
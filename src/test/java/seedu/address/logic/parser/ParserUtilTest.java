@@ -2,17 +2,23 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.ParserUtil.MAX_INDEX_COUNT;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEXES;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -56,6 +62,41 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexes_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEXES, () -> ParserUtil.parseIndexes(""));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEXES, () -> ParserUtil.parseIndexes("1,,2"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEXES, () -> ParserUtil.parseIndexes("0-2"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEXES, () -> ParserUtil.parseIndexes("1-2-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEXES, () -> ParserUtil.parseIndexes("1-a"));
+    }
+
+    @Test
+    public void parseIndexes_rangeEndsBeforeStart_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEXES, () -> ParserUtil.parseIndexes("5-3"));
+    }
+
+    @Test
+    public void parseIndexes_tooManyIndexes_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEXES, ()
+            -> ParserUtil.parseIndexes("1-" + MAX_INDEX_COUNT + ",1"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEXES, ()
+            -> ParserUtil.parseIndexes("1-" + Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void parseIndexes_validInput_success() throws Exception {
+        // single index
+        assertEquals(List.of(INDEX_FIRST_PERSON), ParserUtil.parseIndexes("1"));
+
+        // ranges and lists with whitespaces, out of order and overlapping
+        assertEquals(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON, INDEX_THIRD_PERSON, Index.fromOneBased(5)),
+                ParserUtil.parseIndexes(" 5, 2 - 3 ,1-2,3 "));
+
+        // largest number of indexes
+        assertEquals(MAX_INDEX_COUNT, ParserUtil.parseIndexes("1-" + MAX_INDEX_COUNT).size());
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_TAG_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_FRIEND;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_HUSBAND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMOVE_TAG;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.TagShownCommand;
+import seedu.address.model.tag.Tag;
+
+public class TagShownCommandParserTest {
+
+    private TagShownCommandParser parser = new TagShownCommandParser();
+
+    @Test
+    public void parse_tagsToAddAndRemove_success() {
+        assertParseSuccess(parser, TAG_DESC_FRIEND + TAG_DESC_HUSBAND + " " + PREFIX_REMOVE_TAG + "colleague",
+                new TagShownCommand(Set.of(new Tag(VALID_TAG_FRIEND), new Tag(VALID_TAG_HUSBAND)),
+                        Set.of(new Tag("colleague"))));
+
+        assertParseSuccess(parser, " " + PREFIX_REMOVE_TAG + VALID_TAG_FRIEND,
+                new TagShownCommand(Set.of(), Set.of(new Tag(VALID_TAG_FRIEND))));
+    }
+
+    @Test
+    public void parse_noTags_failure() {
+        assertParseFailure(parser, "", TagShownCommand.MESSAGE_NOT_TAGGED);
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseFailure(parser, "1" + TAG_DESC_FRIEND,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, TagShownCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, INVALID_TAG_DESC, Tag.MESSAGE_CONSTRAINTS);
+    }
+}
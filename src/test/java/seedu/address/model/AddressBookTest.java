@@ -78,6 +78,21 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getVersion_afterEachModification_increases() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        long versionAfterAdd = addressBook.getVersion();
+        assertTrue(versionAfterAdd > initialVersion);
+
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        assertEquals(versionAfterAdd, addressBook.getVersion());
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        assertTrue(addressBook.getVersion() > versionAfterAdd);
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
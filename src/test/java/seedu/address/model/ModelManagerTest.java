@@ -7,16 +7,22 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +99,71 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_nameKeywords_filtersByWholeWordsIgnoringCase() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setFilterKeptOnChange(true);
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .withPerson(CARL).build(), userPrefs);
+
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("alice", "KURZ")));
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getFilteredPersonList());
+
+        // persons renamed to match the keywords are found too
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Kurz").build();
+        modelManager.setPerson(BENSON, renamedBenson);
+        assertEquals(Arrays.asList(ALICE, renamedBenson, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setPerson_filterNotKept_showsAllPersons() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new UserPrefs());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("999").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void deletePersonsAndSetPersons_filterNotKept_showsAllPersonsOnlyAfterEdit() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .withPerson(CARL).build(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+        // deleting persons keeps the filter, as the persons left shown still match it
+        modelManager.deletePersons(List.of(CARL));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("999").build();
+        modelManager.setPersons(Map.of(BENSON, editedBenson));
+        assertEquals(Arrays.asList(ALICE, editedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void addPersonAndSetPerson_filterKept_onlyChangedPersonsTested() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setFilterKeptOnChange(true);
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                userPrefs);
+        List<Person> testedPersons = new ArrayList<>();
+        modelManager.updateFilteredPersonList(person -> {
+            testedPersons.add(person);
+            return !person.getTags().isEmpty();
+        });
+        testedPersons.clear();
+
+        // the edited person is tested again and drops out of the filter, the others are not tested
+        Person untaggedAlice = new PersonBuilder(ALICE).withTags().build();
+        modelManager.setPerson(ALICE, untaggedAlice);
+        modelManager.addPerson(CARL);
+        Person taggedCarl = new PersonBuilder(CARL).withTags("friends").build();
+        modelManager.setPerson(CARL, taggedCarl);
+        assertEquals(Arrays.asList(untaggedAlice, CARL, taggedCarl), testedPersons);
+        assertEquals(Arrays.asList(BENSON, taggedCarl), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -128,5 +199,10 @@ public class ModelManagerTest {
         UserPrefs differentUserPrefs = new UserPrefs();
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
+
+        // different filtering mode -> returns false
+        differentUserPrefs = new UserPrefs();
+        differentUserPrefs.setFilterKeptOnChange(true);
+        assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
 }
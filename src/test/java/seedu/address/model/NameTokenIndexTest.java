@@ -0,0 +1,87 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTokenIndexTest {
+
+    private AddressBook addressBook;
+    private NameTokenIndex nameTokenIndex;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL).build();
+        nameTokenIndex = new NameTokenIndex(addressBook.getPersonList());
+    }
+
+    @Test
+    public void constructor_nullPersons_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new NameTokenIndex(null));
+    }
+
+    @Test
+    public void containsAnyWord_existingPersons_matchesWholeWordsIgnoringCase() {
+        Predicate<Person> predicate = nameTokenIndex.containsAnyWord(Arrays.asList("aLIce", "kurz"));
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(CARL));
+        assertFalse(predicate.test(BENSON));
+
+        // partial words do not match
+        assertFalse(nameTokenIndex.containsAnyWord(Collections.singletonList("Ali")).test(ALICE));
+
+        // no keywords match nobody
+        assertFalse(nameTokenIndex.containsAnyWord(Collections.emptyList()).test(ALICE));
+    }
+
+    @Test
+    public void containsAnyWord_personsChanged_reflectsChanges() {
+        Predicate<Person> predicate = nameTokenIndex.containsAnyWord(Arrays.asList("Meier", "Pauline"));
+
+        addressBook.addPerson(DANIEL);
+        addressBook.removePerson(BENSON);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        addressBook.setPerson(ALICE, editedAlice);
+
+        assertTrue(predicate.test(DANIEL));
+        assertFalse(predicate.test(BENSON));
+        assertTrue(predicate.test(editedAlice));
+        assertFalse(predicate.test(ALICE));
+
+        addressBook.resetData(new AddressBookBuilder().withPerson(HOON).build());
+        assertTrue(predicate.test(HOON));
+        assertFalse(predicate.test(DANIEL));
+    }
+
+    @Test
+    public void getTokenCount_wordsRemoved_unusedTokensDropped() {
+        assertEquals(6, nameTokenIndex.getTokenCount());
+
+        // "Meier" is still used by Benson
+        addressBook.addPerson(DANIEL);
+        assertEquals(7, nameTokenIndex.getTokenCount());
+        addressBook.removePerson(DANIEL);
+        assertEquals(6, nameTokenIndex.getTokenCount());
+
+        addressBook.resetData(new AddressBook());
+        assertEquals(0, nameTokenIndex.getTokenCount());
+    }
+
+}
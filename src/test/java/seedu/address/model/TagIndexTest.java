@@ -0,0 +1,148 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagsMatchPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private static final Tag TAG_FRIENDS = new Tag("friends");
+    private static final Tag TAG_OWES_MONEY = new Tag("owesMoney");
+
+    private AddressBook addressBook;
+    private TagIndex tagIndex;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL).build();
+        tagIndex = new TagIndex(addressBook.getPersonList());
+    }
+
+    @Test
+    public void constructor_nullPersons_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TagIndex(null));
+    }
+
+    @Test
+    public void findMatches_existingPersons_combinesBitmaps() {
+        // ordinals follow the order the persons were added in
+        assertEquals(bitSetOf(0, 1), tagIndex.findMatches(required(TAG_FRIENDS)));
+        assertEquals(bitSetOf(0, 1), tagIndex.findMatches(
+                new TagsMatchPredicate(List.of(Set.of(TAG_FRIENDS, TAG_OWES_MONEY)), Set.of())));
+        assertEquals(bitSetOf(1), tagIndex.findMatches(
+                new TagsMatchPredicate(List.of(Set.of(TAG_FRIENDS), Set.of(TAG_OWES_MONEY)), Set.of())));
+        assertEquals(bitSetOf(0, 2), tagIndex.findMatches(
+                new TagsMatchPredicate(List.of(), Set.of(TAG_OWES_MONEY))));
+
+        // unknown tags match nobody
+        assertEquals(new BitSet(), tagIndex.findMatches(required(new Tag("unknown"))));
+        assertEquals(2, tagIndex.getTagCount());
+    }
+
+    @Test
+    public void matching_personsChanged_reflectsChanges() {
+        Predicate<Person> predicate = tagIndex.matching(required(TAG_FRIENDS));
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(CARL));
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(DANIEL);
+        Person taggedCarl = new PersonBuilder(CARL).withTags("friends").build();
+        addressBook.setPerson(CARL, taggedCarl);
+        Person untaggedBenson = new PersonBuilder(BENSON).withTags().build();
+        addressBook.setPerson(BENSON, untaggedBenson);
+
+        assertTrue(predicate.test(DANIEL));
+        assertTrue(predicate.test(taggedCarl));
+        assertFalse(predicate.test(untaggedBenson));
+        assertEquals(1, tagIndex.getTagCount());
+
+        // persons outside the list are tested on their own tags
+        assertTrue(predicate.test(ALICE));
+    }
+
+    @Test
+    public void matching_filterActiveWhilePersonsChange_showsMatchingPersons() {
+        TagsMatchPredicate friendsNotOwingMoney = new TagsMatchPredicate(List.of(Set.of(TAG_FRIENDS)),
+                Set.of(TAG_OWES_MONEY));
+        FilteredList<Person> filteredPersons = new FilteredList<>(addressBook.getPersonList());
+        filteredPersons.setPredicate(tagIndex.matching(friendsNotOwingMoney));
+        assertEquals(List.of(ALICE), filteredPersons);
+
+        // added
+        addressBook.addPerson(DANIEL);
+        addressBook.addPerson(ELLE);
+        assertFilteredBy(friendsNotOwingMoney, filteredPersons);
+
+        // edited into and out of the filter
+        Person taggedCarl = new PersonBuilder(CARL).withTags("friends").build();
+        addressBook.setPerson(CARL, taggedCarl);
+        Person owingAlice = new PersonBuilder(ALICE).withTags("friends", "owesMoney").build();
+        addressBook.setPerson(ALICE, owingAlice);
+        assertFilteredBy(friendsNotOwingMoney, filteredPersons);
+        assertEquals(List.of(taggedCarl, DANIEL), filteredPersons);
+
+        // removed, with the freed ordinal given to a person outside the filter
+        addressBook.removePerson(taggedCarl);
+        addressBook.addPerson(FIONA);
+        assertFilteredBy(friendsNotOwingMoney, filteredPersons);
+
+        // edited in bulk and removed in bulk
+        Person untaggedDaniel = new PersonBuilder(DANIEL).withTags().build();
+        Person taggedFiona = new PersonBuilder(FIONA).withTags("friends").build();
+        addressBook.replacePersons(Map.of(DANIEL, untaggedDaniel, FIONA, taggedFiona));
+        assertFilteredBy(friendsNotOwingMoney, filteredPersons);
+        addressBook.removePersons(List.of(owingAlice, taggedFiona));
+        assertFilteredBy(friendsNotOwingMoney, filteredPersons);
+        assertEquals(List.of(), filteredPersons);
+    }
+
+    @Test
+    public void onChanged_personRemoved_ordinalReused() {
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(DANIEL);
+        assertEquals(bitSetOf(0, 1), tagIndex.findMatches(required(TAG_FRIENDS)));
+    }
+
+    /**
+     * Asserts that {@code filteredPersons} shows exactly the persons of the address book that match {@code predicate}.
+     */
+    private void assertFilteredBy(TagsMatchPredicate predicate, List<Person> filteredPersons) {
+        assertEquals(addressBook.getPersonList().stream().filter(predicate).toList(), filteredPersons);
+    }
+
+    private static TagsMatchPredicate required(Tag tag) {
+        return new TagsMatchPredicate(List.of(Set.of(tag)), Set.of());
+    }
+
+    private static BitSet bitSetOf(int... bits) {
+        BitSet bitSet = new BitSet();
+        for (int bit : bits) {
+            bitSet.set(bit);
+        }
+        return bitSet;
+    }
+}
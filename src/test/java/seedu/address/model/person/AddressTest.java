@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.ValidationTestUtil.assertEquivalentToRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -34,6 +35,11 @@ public class AddressTest {
         assertTrue(Address.isValidAddress("Leng Inc; 1234 Market St; San Francisco CA 2349879; USA")); // long address
     }
 
+    @Test
+    public void isValidAddress_shortStrings_equivalentToRegex() {
+        assertEquivalentToRegex(Address.VALIDATION_REGEX, Address::isValidAddress, "a #,\t\n\u2028", 5);
+    }
+
     @Test
     public void equals() {
         Address address = new Address("Valid Address");
@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.ValidationTestUtil.assertEquivalentToRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -66,6 +67,11 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("e1234567@u.nus.edu")); // more than one period in domain
     }
 
+    @Test
+    public void isValidEmail_shortStrings_equivalentToRegex() {
+        assertEquivalentToRegex(Email.VALIDATION_REGEX, Email::isValidEmail, "a1-._+@ ", 6);
+    }
+
     @Test
     public void equals() {
         Email email = new Email("valid@email");
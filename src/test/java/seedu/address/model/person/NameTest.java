@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.ValidationTestUtil.assertEquivalentToRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -38,6 +39,11 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void isValidName_shortStrings_equivalentToRegex() {
+        assertEquivalentToRegex(Name.VALIDATION_REGEX, Name::isValidName, "aZ1 _\t", 6);
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
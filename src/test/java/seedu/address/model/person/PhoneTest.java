@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.ValidationTestUtil.assertEquivalentToRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -38,6 +39,11 @@ public class PhoneTest {
         assertTrue(Phone.isValidPhone("124293842033123")); // long phone numbers
     }
 
+    @Test
+    public void isValidPhone_shortStrings_equivalentToRegex() {
+        assertEquivalentToRegex(Phone.VALIDATION_REGEX, Phone::isValidPhone, "09a +", 6);
+    }
+
     @Test
     public void equals() {
         Phone phone = new Phone("999");
@@ -0,0 +1,74 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagsMatchPredicateTest {
+
+    private static final Tag TAG_FRIENDS = new Tag("friends");
+    private static final Tag TAG_FAMILY = new Tag("family");
+    private static final Tag TAG_COLLEAGUES = new Tag("colleagues");
+
+    @Test
+    public void equals() {
+        TagsMatchPredicate firstPredicate = new TagsMatchPredicate(List.of(Set.of(TAG_FRIENDS)), Set.of());
+        TagsMatchPredicate secondPredicate = new TagsMatchPredicate(List.of(), Set.of(TAG_FRIENDS));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new TagsMatchPredicate(List.of(Set.of(TAG_FRIENDS)), Set.of())));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // required and excluded tags swapped -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_tagsMatch_returnsTrue() {
+        // one of the alternatives of every group
+        TagsMatchPredicate predicate = new TagsMatchPredicate(
+                List.of(Set.of(TAG_FRIENDS, TAG_FAMILY), Set.of(TAG_COLLEAGUES)), Set.of());
+        assertTrue(predicate.test(new PersonBuilder().withTags("family", "colleagues").build()));
+
+        // only excluded tags
+        predicate = new TagsMatchPredicate(List.of(), Set.of(TAG_FRIENDS));
+        assertTrue(predicate.test(new PersonBuilder().withTags("family").build()));
+        assertTrue(predicate.test(new PersonBuilder().withTags().build()));
+    }
+
+    @Test
+    public void test_tagsDoNotMatch_returnsFalse() {
+        // missing a group
+        TagsMatchPredicate predicate = new TagsMatchPredicate(
+                List.of(Set.of(TAG_FRIENDS, TAG_FAMILY), Set.of(TAG_COLLEAGUES)), Set.of());
+        assertFalse(predicate.test(new PersonBuilder().withTags("friends", "family").build()));
+
+        // has an excluded tag
+        predicate = new TagsMatchPredicate(List.of(Set.of(TAG_FRIENDS)), Set.of(TAG_COLLEAGUES));
+        assertFalse(predicate.test(new PersonBuilder().withTags("friends", "colleagues").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        TagsMatchPredicate predicate = new TagsMatchPredicate(List.of(Set.of(TAG_FRIENDS)), Set.of(TAG_FAMILY));
+        String expected = TagsMatchPredicate.class.getCanonicalName() + "{requiredTagGroups=[[" + TAG_FRIENDS
+                + "]], excludedTags=[" + TAG_FAMILY + "]}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -3,18 +3,27 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -102,6 +111,23 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_releasesOldIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPerson_targetHasSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -127,6 +153,118 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_earlierPerson_laterPersonsRemainAddressable() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(BOB, CARL);
+        uniquePersonList.remove(BENSON);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(CARL);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void removeAll_nullCollection_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.removeAll(null));
+    }
+
+    @Test
+    public void removeAll_somePersonsDoNotExist_listUnchanged() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(Arrays.asList(ALICE, BOB)));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        expectedUniquePersonList.add(BENSON);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void removeAll_existingPersons_removedAndLaterPersonsRemainAddressable() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, BOB));
+        uniquePersonList.removeAll(Arrays.asList(BENSON, ALICE));
+        uniquePersonList.setPerson(BOB, AMY);
+        uniquePersonList.remove(CARL);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(AMY);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(BENSON));
+    }
+
+    @Test
+    public void removeAll_separatedPersons_removedInSingleChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE));
+        List<String> changes = recordChanges();
+        uniquePersonList.removeAll(Arrays.asList(DANIEL, ALICE, CARL));
+        assertEquals(List.of(describeChange(0, List.of(ALICE, BENSON, CARL, DANIEL, ELLE), List.of(BENSON, ELLE))),
+                changes);
+        assertEquals(List.of(BENSON, ELLE), uniquePersonList.asUnmodifiableObservableList());
+        uniquePersonList.remove(ELLE);
+        assertFalse(uniquePersonList.contains(ELLE));
+    }
+
+    @Test
+    public void replaceAll_existingPersons_replacedInSingleChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        List<String> changes = recordChanges();
+        uniquePersonList.replaceAll(Map.of(CARL, BOB, ALICE, AMY));
+        assertEquals(List.of(describeChange(0, List.of(ALICE, BENSON, CARL, DANIEL),
+                List.of(AMY, BENSON, BOB, DANIEL))), changes);
+        uniquePersonList.remove(BOB);
+        assertFalse(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void replaceAll_namesSwapped_success() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        Person aliceAsBenson = new PersonBuilder(ALICE).withName(BENSON.getName().fullName).build();
+        Person bensonAsAlice = new PersonBuilder(BENSON).withName(ALICE.getName().fullName).build();
+        uniquePersonList.replaceAll(Map.of(ALICE, aliceAsBenson, BENSON, bensonAsAlice));
+        assertEquals(List.of(aliceAsBenson, bensonAsAlice), uniquePersonList.asUnmodifiableObservableList());
+        uniquePersonList.remove(bensonAsAlice);
+        uniquePersonList.remove(aliceAsBenson);
+        assertTrue(uniquePersonList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void replaceAll_existingPersons_replacedInPlace() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        Person editedBenson = new PersonBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.replaceAll(Map.of(BENSON, editedBenson, CARL, BOB));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, editedBenson, BOB));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void replaceAll_personDoesNotExist_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.replaceAll(Map.of(BOB, CARL)));
+    }
+
+    @Test
+    public void replaceAll_duplicateIdentities_listUnchanged() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.replaceAll(Map.of(BENSON, ALICE)));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +300,34 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsDuplicateNamesAndKeepsOwnList() {
+        uniquePersonList.add(CARL);
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_AMY).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, ALICE, BENSON, editedBob);
+        String expectedMessage = new DuplicatePersonException(Arrays.asList(ALICE.getName(), BOB.getName()))
+                .getMessage();
+        assertThrows(DuplicatePersonException.class, expectedMessage, ()
+            -> uniquePersonList.setPersons(listWithDuplicatePersons));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(CARL);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void setPersons_list_indexesReplacementPersons() {
+        uniquePersonList.add(CARL);
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, BOB));
+        assertFalse(uniquePersonList.contains(CARL));
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(BOB, CARL);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BENSON);
+        expectedUniquePersonList.add(CARL);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -172,4 +338,21 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    /**
+     * Returns a list that every later change to {@code uniquePersonList} is described in.
+     */
+    private List<String> recordChanges() {
+        List<String> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changes.add(describeChange(change.getFrom(), change.getRemoved(), change.getAddedSubList()));
+            }
+        });
+        return changes;
+    }
+
+    private static String describeChange(int from, List<? extends Person> removed, List<? extends Person> added) {
+        return from + " -" + removed + " +" + added;
+    }
 }
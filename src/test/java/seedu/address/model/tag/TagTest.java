@@ -1,6 +1,7 @@
 package seedu.address.model.tag;
 
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.ValidationTestUtil.assertEquivalentToRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -23,4 +24,9 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void isValidTagName_shortStrings_equivalentToRegex() {
+        assertEquivalentToRegex(Tag.VALIDATION_REGEX, Tag::isValidTagName, "aZ09 _-", 5);
+    }
+
 }
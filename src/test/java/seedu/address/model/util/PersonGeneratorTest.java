@@ -0,0 +1,91 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonGeneratorTest {
+
+    private static final int PERSON_COUNT = 10_000;
+
+    private final PersonGenerator generator = new PersonGenerator(PersonGenerator.DEFAULT_SEED);
+
+    @Test
+    public void generatePersons_sameSeed_samePersonsAtEachPosition() {
+        List<Person> persons = generator.generatePersons(0, 100).collect(Collectors.toList());
+
+        assertEquals(persons, new PersonGenerator(PersonGenerator.DEFAULT_SEED).generatePersons(0, 100)
+                .collect(Collectors.toList()));
+        assertEquals(persons.subList(40, 60), generator.generatePersons(40, 20).collect(Collectors.toList()));
+        assertEquals(persons.get(99), generator.generatePerson(99));
+    }
+
+    @Test
+    public void generatePersons_differentSeeds_differentPersons() {
+        assertNotEquals(generator.generatePersons(0, 100).collect(Collectors.toList()),
+                new PersonGenerator(1).generatePersons(0, 100).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void generatePersons_negativeArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> generator.generatePersons(-1, 1));
+        assertThrows(IllegalArgumentException.class, () -> generator.generatePersons(0, -1));
+        assertThrows(IllegalArgumentException.class, () -> generator.generatePerson(-1));
+    }
+
+    @Test
+    public void generatePersons_manyPersons_namesSkewedAndTagsMostlyFew() {
+        List<Person> persons = generator.generatePersons(0, PERSON_COUNT).collect(Collectors.toList());
+
+        Map<String, Long> firstNameCounts = persons.stream().collect(Collectors.groupingBy(
+                person -> person.getName().fullName.split(" ")[0], Collectors.counting()));
+        long mostCommonCount = firstNameCounts.values().stream().max(Long::compare).get();
+        long leastCommonCount = firstNameCounts.values().stream().min(Long::compare).get();
+        assertTrue(mostCommonCount > 10 * leastCommonCount);
+
+        long untaggedCount = persons.stream().filter(person -> person.getTags().isEmpty()).count();
+        long heavilyTaggedCount = persons.stream().filter(person -> person.getTags().size() >= 3).count();
+        assertTrue(untaggedCount > heavilyTaggedCount);
+    }
+
+    @Test
+    public void addPersons_emptyAddressBook_allPersonsAddedInOrder() {
+        AddressBook addressBook = new AddressBook();
+
+        assertEquals(PERSON_COUNT, generator.addPersons(addressBook, 0, PERSON_COUNT));
+        assertEquals(generator.generatePersons(0, PERSON_COUNT).collect(Collectors.toList()),
+                addressBook.getPersonList());
+        assertEquals(addressBook, PersonGenerator.generateAddressBook(PERSON_COUNT));
+    }
+
+    @Test
+    public void addPersons_overlappingPositions_existingPersonsSkipped() {
+        AddressBook addressBook = PersonGenerator.generateAddressBook(10);
+
+        assertEquals(5, generator.addPersons(addressBook, 5, 10));
+        assertEquals(generator.generatePersons(0, 15).collect(Collectors.toList()), addressBook.getPersonList());
+    }
+
+    @Test
+    public void getNextPosition_namesEndingWithNumbers_afterHighestNumber() {
+        assertEquals(0, PersonGenerator.getNextPosition(new AddressBook()));
+        assertEquals(0, PersonGenerator.getNextPosition(getTypicalAddressBook()));
+
+        AddressBook addressBook = PersonGenerator.generateAddressBook(10);
+        addressBook.removePerson(generator.generatePerson(9));
+        addressBook.addPerson(new PersonBuilder().withName("Alice 42").build());
+        assertEquals(43, PersonGenerator.getNextPosition(addressBook));
+    }
+}
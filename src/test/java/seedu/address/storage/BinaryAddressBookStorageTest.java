@@ -0,0 +1,185 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(testFolder).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("notBinary.bin");
+        FileUtil.writeToFile(filePath, "{ \"persons\" : [] }");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        // flips a bit in the middle of the persons, which the checksum must catch
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        binaryAddressBookStorage.saveAddressBook(original); // file path not specified
+        readBack = binaryAddressBookStorage.readAddressBook().get(); // file path not specified
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_sharedTagsAndAddressFragments_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withName("First").withAddress("Blk 1, Clementi Ave 2, #01-01")
+                .withTags("friends", "colleagues").build());
+        original.addPerson(new PersonBuilder().withName("Second").withAddress("Blk 1, Clementi Ave 2, ")
+                .withTags("friends").build());
+        original.addPerson(new PersonBuilder().withName("Third").withAddress("Clementi Ave 2,, Blk 1")
+                .withTags().build());
+
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        AddressBook readBack = new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get());
+
+        assertEquals(original, readBack);
+        Person first = readBack.getPersonList().get(0);
+        Person second = readBack.getPersonList().get(1);
+        // tags shared between persons are read back as the same object
+        assertTrue(first.getTags().stream().anyMatch(tag -> second.getTags().iterator().next() == tag));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(testFolder.resolve("a.bin"))
+                .saveAddressBook(null));
+    }
+
+    @Test
+    public void importFromJson_jsonFile_convertedToBinary() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        Path binaryFilePath = testFolder.resolve("addressBook.bin");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(binaryFilePath);
+        assertTrue(binaryAddressBookStorage.importFromJson(jsonFilePath));
+        assertEquals(getTypicalAddressBook(), new AddressBook(binaryAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void importFromJson_missingJsonFile_returnsFalse() throws Exception {
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(
+                testFolder.resolve("addressBook.bin"));
+        assertFalse(binaryAddressBookStorage.importFromJson(testFolder.resolve("missing.json")));
+        assertFalse(Files.exists(binaryAddressBookStorage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void importFromJson_invalidJsonFile_throwsDataLoadingException() {
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(
+                testFolder.resolve("addressBook.bin"));
+        Path invalidJsonFilePath = Paths.get("src", "test", "data", "JsonAddressBookStorageTest",
+                "invalidPersonAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> binaryAddressBookStorage.importFromJson(invalidJsonFilePath));
+    }
+
+    @Test
+    public void exportToJson_binaryFile_convertedToJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(
+                testFolder.resolve("addressBook.bin"));
+        binaryAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(binaryAddressBookStorage.exportToJson(jsonFilePath));
+        assertEquals(getTypicalAddressBook(), new AddressBook(
+                new JsonAddressBookStorage(jsonFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void exportToJson_missingBinaryFile_returnsFalse() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).exportToJson(jsonFilePath));
+        assertFalse(Files.exists(jsonFilePath));
+    }
+
+}
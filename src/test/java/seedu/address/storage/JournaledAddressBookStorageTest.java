@@ -0,0 +1,197 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path snapshotFilePath;
+    private JournaledAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        snapshotFilePath = testFolder.resolve("addressbook.json");
+        storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(snapshotFilePath), 5);
+    }
+
+    @Test
+    public void constructor_nullSnapshotStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(null));
+    }
+
+    @Test
+    public void getJournalFilePath_nextToSnapshot() {
+        assertEquals(testFolder.resolve("addressbook.json.journal"), storage.getJournalFilePath());
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(snapshotFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_journaledAndReadBack() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = FileUtil.readFromFile(snapshotFilePath);
+
+        original.addPerson(HOON);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("91234567").build());
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, FileUtil.readFromFile(snapshotFilePath));
+        assertEquals(4, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_clear_journaledAsSingleEntry() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.resetData(new AddressBook());
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_journalExceedsThreshold_compactsIntoSnapshot() throws Exception {
+        AddressBook original = new AddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(ALICE);
+        original.addPerson(BENSON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("91234567").build());
+        original.addPerson(HOON);
+        original.addPerson(IDA);
+        original.removePerson(BENSON);
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(snapshotFilePath).readAddressBook().get()));
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_differentAddressBook_writesSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        AddressBook other = new AddressBook();
+        other.addPerson(IDA);
+        storage.saveAddressBook(other);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(other, readBack());
+
+        // changes to the previously saved address book are no longer recorded
+        original.addPerson(IDA);
+        storage.saveAddressBook(other);
+        assertEquals(other, readBack());
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderSnapshot_ignored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // simulates an interrupted compaction, where the snapshot was rewritten but the journal was not discarded
+        AddressBook compacted = new AddressBook();
+        compacted.addPerson(IDA);
+        new JsonAddressBookStorage(snapshotFilePath).saveAddressBook(compacted);
+
+        assertEquals(compacted, readBack());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.write(storage.getJournalFilePath(), "{\"type\":\"ADD\",\"person\":{\"na".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void readAddressBook_inconsistentEntry_throwsDataLoadingException() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // HOON is added a second time
+        Files.write(storage.getJournalFilePath(), Files.readAllLines(storage.getJournalFilePath()).subList(1, 2),
+                StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_otherFilePath_journalNotReplayed() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Path otherFilePath = testFolder.resolve("other.json");
+        Files.copy(snapshotFilePath, otherFilePath);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    private AddressBook readBack() throws DataLoadingException {
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(new JsonAddressBookStorage(snapshotFilePath))
+                .readAddressBook().get();
+        return new AddressBook(readBack);
+    }
+
+}
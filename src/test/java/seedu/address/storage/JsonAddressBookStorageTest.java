@@ -16,8 +16,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.PersonGenerator;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -60,6 +63,26 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_duplicatePersonAddressBook_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("duplicatePersonAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_noPersonsField_emptyAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("NoPersonsAddressBook.json");
+        FileUtil.writeToFile(filePath, "{ \"unknown\" : [ { \"persons\" : 1 } ] }");
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(new AddressBook(), new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_personsNotArray_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("PersonsNotArrayAddressBook.json");
+        FileUtil.writeToFile(filePath, "{ \"persons\" : \"Alice Pauline\" }");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -86,6 +109,38 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_notPrettyPrinted_writesSingleLineThatReadsBack() throws Exception {
+        Path filePath = testFolder.resolve("CompactAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_prettyPrinted_matchesJsonUtilFormat() throws Exception {
+        Path filePath = testFolder.resolve("PrettyAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)),
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void savePersons_generatedPersons_readBackAsAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("GeneratedAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false);
+
+        jsonAddressBookStorage.savePersons(new PersonGenerator(PersonGenerator.DEFAULT_SEED)
+                .generatePersons(0, 1000)::iterator, filePath);
+        assertEquals(PersonGenerator.generateAddressBook(1000),
+                new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
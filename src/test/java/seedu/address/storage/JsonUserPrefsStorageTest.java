@@ -2,9 +2,11 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
@@ -70,6 +72,24 @@ public class JsonUserPrefsStorageTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void readUserPrefs_filterKeptOnChange_successfullyRead() throws DataLoadingException {
+        UserPrefs expected = getTypicalUserPrefs();
+        expected.setFilterKeptOnChange(true);
+        UserPrefs actual = readUserPrefs("FilterKeptUserPref.json").get();
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void saveUserPrefs_filterKeptOnChange_savedWithDocumentedKey() throws IOException {
+        UserPrefs original = new UserPrefs();
+        original.setFilterKeptOnChange(true);
+
+        Path prefsFilePath = testFolder.resolve("TempPrefs.json");
+        new JsonUserPrefsStorage(prefsFilePath).saveUserPrefs(original);
+        assertTrue(Files.readString(prefsFilePath).contains("\"filterKeptOnChange\" : true"));
+    }
+
     private UserPrefs getTypicalUserPrefs() {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100));
@@ -0,0 +1,194 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindStorageTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
+
+    @TempDir
+    public Path testFolder;
+
+    private JsonUserPrefsStorage userPrefsStorage;
+
+    @BeforeEach
+    public void setUp() {
+        userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs"));
+    }
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindStorage(null));
+    }
+
+    @Test
+    public void addressBookReadSave() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(
+                new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab")), userPrefsStorage));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.flush();
+        assertEquals(original, new AddressBook(
+                new JsonAddressBookStorage(testFolder.resolve("ab")).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_modifiedAfterSave_writesAddressBookAsSaved() throws Exception {
+        RecordingAddressBookStorage recordingStorage = new RecordingAddressBookStorage();
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(recordingStorage, userPrefsStorage));
+        recordingStorage.blockWrites();
+
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        recordingStorage.unblockWrites();
+        storage.flush();
+
+        assertEquals(getTypicalAddressBook(), recordingStorage.written.get(0));
+    }
+
+    @Test
+    public void saveAddressBook_savedWhileWriting_coalescedIntoOneWrite() throws Exception {
+        RecordingAddressBookStorage recordingStorage = new RecordingAddressBookStorage();
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(recordingStorage, userPrefsStorage));
+        recordingStorage.blockWrites();
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        recordingStorage.awaitWriteStarted();
+
+        addressBook.addPerson(BENSON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(CARL);
+        storage.saveAddressBook(addressBook);
+        recordingStorage.unblockWrites();
+        storage.flush();
+
+        assertEquals(2, recordingStorage.written.size());
+        assertEquals(addressBook, recordingStorage.written.get(1));
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_reportedAndRetriedOnFlush() throws Exception {
+        RecordingAddressBookStorage recordingStorage = new RecordingAddressBookStorage();
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(recordingStorage, userPrefsStorage));
+        List<IOException> failures = new CopyOnWriteArrayList<>();
+        CountDownLatch failureReported = new CountDownLatch(1);
+        storage.setSaveFailureHandler(e -> {
+            failures.add(e);
+            failureReported.countDown();
+        });
+
+        recordingStorage.failWrites = true;
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertTrue(failureReported.await(10, TimeUnit.SECONDS));
+        assertSame(DUMMY_IO_EXCEPTION, failures.get(0));
+
+        // the failed save is retried until it succeeds
+        assertThrows(IOException.class, storage::flush);
+        recordingStorage.failWrites = false;
+        storage.flush();
+        assertEquals(original, recordingStorage.written.get(0));
+    }
+
+    @Test
+    public void saveAddressBook_savedWhileFailingWrite_newerAddressBookWrittenWithoutFlush() throws Exception {
+        RecordingAddressBookStorage recordingStorage = new RecordingAddressBookStorage();
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(recordingStorage, userPrefsStorage));
+        List<IOException> failures = new CopyOnWriteArrayList<>();
+        storage.setSaveFailureHandler(failures::add);
+        recordingStorage.blockWrites();
+        recordingStorage.failNextWrite = true;
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        recordingStorage.awaitWriteStarted();
+        addressBook.addPerson(BENSON);
+        storage.saveAddressBook(addressBook);
+        recordingStorage.unblockWrites();
+
+        recordingStorage.awaitWritten(1);
+        assertEquals(List.of(DUMMY_IO_EXCEPTION), failures);
+        assertEquals(addressBook, recordingStorage.written.get(0));
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records the address books written, and that can be made to block or fail.
+     */
+    private static class RecordingAddressBookStorage extends JsonAddressBookStorage {
+        private final List<AddressBook> written = new CopyOnWriteArrayList<>();
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private volatile CountDownLatch writesUnblocked = new CountDownLatch(0);
+        private volatile boolean failWrites;
+        private volatile boolean failNextWrite;
+
+        RecordingAddressBookStorage() {
+            super(Path.of("unused"));
+        }
+
+        void blockWrites() {
+            writesUnblocked = new CountDownLatch(1);
+        }
+
+        void unblockWrites() {
+            writesUnblocked.countDown();
+        }
+
+        void awaitWriteStarted() throws InterruptedException {
+            assertTrue(writeStarted.await(10, TimeUnit.SECONDS));
+        }
+
+        void awaitWritten(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (written.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(count, written.size());
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            writeStarted.countDown();
+            try {
+                writesUnblocked.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            if (failWrites || failNextWrite) {
+                failNextWrite = false;
+                throw DUMMY_IO_EXCEPTION;
+            }
+            written.add(new AddressBook(addressBook));
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+package seedu.address.testutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * A utility class for checking validators against the regexes they implement.
+ */
+public class ValidationTestUtil {
+
+    /**
+     * Asserts that {@code validator} accepts exactly the strings that fully match {@code regex}, among all strings
+     * of at most {@code maxLength} characters drawn from {@code alphabet}.
+     */
+    public static void assertEquivalentToRegex(String regex, Predicate<String> validator, String alphabet,
+            int maxLength) {
+        Pattern pattern = Pattern.compile(regex);
+        char[] chars = new char[maxLength];
+        for (int length = 0; length <= maxLength; length++) {
+            assertEquivalentToRegex(pattern, validator, alphabet, chars, 0, length);
+        }
+    }
+
+    private static void assertEquivalentToRegex(Pattern pattern, Predicate<String> validator, String alphabet,
+            char[] chars, int position, int length) {
+        if (position == length) {
+            String test = new String(chars, 0, length);
+            assertEquals(pattern.matcher(test).matches(), validator.test(test), "Validating \"" + test + "\"");
+            return;
+        }
+        for (int i = 0; i < alphabet.length(); i++) {
+            chars[position] = alphabet.charAt(i);
+            assertEquivalentToRegex(pattern, validator, alphabet, chars, position + 1, length);
+        }
+    }
+
+}